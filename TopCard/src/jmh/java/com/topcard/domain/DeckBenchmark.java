@@ -0,0 +1,67 @@
+package com.topcard.domain;
+
+import com.topcard.debug.Debug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures shuffling a deck, and shuffling it and dealing every card.
+ * The cost of dealing alone is the difference between the two. Also compares building a new deck
+ * for a round with resetting one deck in place.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=DeckBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckBenchmark {
+
+    private Deck deck;
+
+    @Setup(Level.Trial)
+    public void createDeck() {
+        Debug.setDebugMode(false);
+        deck = new Deck();
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck();
+    }
+
+    @Benchmark
+    public Deck reset() {
+        deck.reset();
+        return deck;
+    }
+
+    @Benchmark
+    public void shuffleAndDealAll(Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < Deck.NUM_OF_CARDS_IN_DECK; i++) {
+            blackhole.consume(deck.deal());
+        }
+    }
+}
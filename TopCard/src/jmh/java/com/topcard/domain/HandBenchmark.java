@@ -0,0 +1,117 @@
+package com.topcard.domain;
+
+import com.topcard.debug.Debug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scoring a round: the value of one hand (as Card objects and as a CardCodes bitmask),
+ * finding the winners of a table and updating the points of the main player against the others.
+ * Hands are dealt from a fixed seed, so every run scores the same cards.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=HandBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandBenchmark {
+
+    private static final long SEED = 20241103L;
+
+    @Param({"4"})
+    public int numOfPlayers;
+
+    private List<Player> players;
+    private List<Player> otherPlayers;
+    private Game game;
+    private long mainHand;
+
+    @Setup(Level.Trial)
+    public void dealHands() {
+        Debug.setDebugMode(false);
+        List<Card> cards = new ArrayList<>();
+        for (Card.Suit suit : Card.Suit.values()) {
+            for (Card.Rank rank : Card.Rank.values()) {
+                cards.add(new Card(suit, rank));
+            }
+        }
+        Collections.shuffle(cards, new Random(SEED));
+
+        players = new ArrayList<>();
+        for (int i = 0; i < numOfPlayers; i++) {
+            Player player = new Player("player" + i, "password", "First" + i, "Last" + i, LocalDate.of(1990, 1, 1));
+            Card[] hand = new Card[player.getNumOfCards()];
+            for (int c = 0; c < hand.length; c++) {
+                hand[c] = cards.get(i * hand.length + c);
+            }
+            player.setHand(hand);
+            players.add(player);
+        }
+        otherPlayers = players.subList(1, players.size());
+        mainHand = CardCodes.handOf(players.get(0).getHand());
+        game = new Game(players);
+    }
+
+    @Benchmark
+    public int getHandValue() {
+        return players.get(0).getHandValue();
+    }
+
+    /**
+     * How getHandValue used to compute the value: a throwaway Card and a fresh sum on every call.
+     */
+    @Benchmark
+    public int getHandValueAllocating() {
+        Card card = new Card();
+        return card.getCardsValue(players.get(0).getHand());
+    }
+
+    /**
+     * Scores every hand of the table twice, as determineWinner does. Run with -prof gc to check
+     * that scoring allocates nothing.
+     */
+    @Benchmark
+    public int scoreTable() {
+        int total = 0;
+        for (int i = 0; i < players.size(); i++) {
+            total += players.get(i).getHandValue() + players.get(i).getHandValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int getHandValueBitmask() {
+        return CardCodes.handValue(mainHand);
+    }
+
+    @Benchmark
+    public List<Player> determineWinner() {
+        return game.determineWinner();
+    }
+
+    @Benchmark
+    public List<Player> updatePoints() {
+        return players.get(0).updatePoints(10, otherPlayers);
+    }
+}
@@ -0,0 +1,93 @@
+package com.topcard.domain;
+
+import com.topcard.debug.Debug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures settling the bets of a table: the main player against the others, and every player
+ * against every other player, with sorted strength keys and with pairwise comparisons.
+ * Tables of more than 52 cards deal one card per hand from as many decks as needed.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=SettlementBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SettlementBenchmark {
+
+    private static final long SEED = 20241103L;
+
+    @Param({"4", "16", "256", "4096"})
+    public int numOfPlayers;
+
+    private List<Player> players;
+
+    @Setup(Level.Trial)
+    public void dealHands() {
+        Debug.setDebugMode(false);
+        players = new ArrayList<>(numOfPlayers);
+        Deck deck = new Deck(ShuffleStrategy.seeded(SEED));
+        for (int seat = 0; seat < numOfPlayers; seat++) {
+            Player player = new Player("player" + seat, "password", "First" + seat, "Last" + seat, LocalDate.of(1990, 1, 1));
+            player.setPlayerId(seat);
+            player.setNumOfCards(numOfPlayers * 3 <= Deck.NUM_OF_CARDS_IN_DECK ? 3 : 1);
+            if (deck.getRemainingCards() < player.getNumOfCards()) {
+                deck.shuffle();
+            }
+            player.drawCards(deck);
+            players.add(player);
+        }
+    }
+
+    @Benchmark
+    public Settlement againstMainPlayer() {
+        return Settlement.againstMainPlayer(10, players);
+    }
+
+    @Benchmark
+    public Settlement allPairs() {
+        return Settlement.allPairs(10, players);
+    }
+
+    /**
+     * All-pairs settlement comparing every pair of hands, the O(N^2) baseline of allPairs.
+     */
+    @Benchmark
+    public int[] allPairsPairwise() {
+        int[] deltas = new int[players.size()];
+        for (int i = 0; i < deltas.length; i++) {
+            int strength = players.get(i).getHandStrength();
+            for (int j = i + 1; j < deltas.length; j++) {
+                int otherStrength = players.get(j).getHandStrength();
+                if (strength > otherStrength) {
+                    deltas[i] += 10;
+                    deltas[j] -= 10;
+                } else if (strength < otherStrength) {
+                    deltas[i] -= 10;
+                    deltas[j] += 10;
+                }
+            }
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,81 @@
+package com.topcard.domain;
+
+import com.topcard.debug.Debug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares shuffle throughput on one thread: Collections.shuffle over the card array (before),
+ * the thread-local and seeded Fisher-Yates strategies, and a partial shuffle of the 12 cards a
+ * four-player round deals. {@link ShuffleContendedBenchmark} runs the same on every core.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=Shuffle
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class ShuffleBenchmark {
+
+    private static final int CARDS_PER_ROUND = 12;
+
+    private Card[] cards;
+    private Deck threadLocalDeck;
+    private Deck seededDeck;
+
+    @Setup(Level.Trial)
+    public void createDecks() {
+        Debug.setDebugMode(false);
+        cards = new Card[Deck.NUM_OF_CARDS_IN_DECK];
+        int index = 0;
+        for (Card.Suit suit : Card.Suit.values()) {
+            for (Card.Rank rank : Card.Rank.values()) {
+                cards[index++] = new Card(suit, rank);
+            }
+        }
+        threadLocalDeck = new Deck();
+        seededDeck = new Deck(ShuffleStrategy.seeded(Thread.currentThread().getId()));
+    }
+
+    @Benchmark
+    public Card[] collectionsShuffle() {
+        Collections.shuffle(Arrays.asList(cards));
+        return cards;
+    }
+
+    @Benchmark
+    public Deck fisherYates() {
+        threadLocalDeck.shuffle();
+        return threadLocalDeck;
+    }
+
+    @Benchmark
+    public Deck fisherYatesSeeded() {
+        seededDeck.shuffle();
+        return seededDeck;
+    }
+
+    @Benchmark
+    public Deck partialShuffle() {
+        threadLocalDeck.shuffle(CARDS_PER_ROUND);
+        return threadLocalDeck;
+    }
+}
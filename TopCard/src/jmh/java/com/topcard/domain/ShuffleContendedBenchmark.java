@@ -0,0 +1,14 @@
+package com.topcard.domain;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Runs the {@link ShuffleBenchmark} cases on every core at once. Collections.shuffle shares one
+ * Random between all threads, while the Fisher-Yates strategies use a generator per thread or deck.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=ShuffleContended
+ * </p>
+ */
+@Threads(Threads.MAX)
+public class ShuffleContendedBenchmark extends ShuffleBenchmark {
+}
@@ -0,0 +1,81 @@
+package com.topcard.service.factory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of asking ServiceFactory for a service, apart from building the service itself:
+ * a registered singleton, a registered prototype supplier, an unregistered class created through its
+ * cached constructor handle, and the reflective lookup every call used to do.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=ServiceFactoryBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceFactoryBenchmark {
+
+    /**
+     * A service with nothing to build, registered by the benchmark.
+     */
+    public static class RegisteredService {
+    }
+
+    /**
+     * A service with nothing to build, left unregistered.
+     */
+    public static class UnregisteredService {
+    }
+
+    /**
+     * A service with nothing to build, registered as a singleton by the benchmark.
+     */
+    public static class SingletonService {
+    }
+
+    @Setup(Level.Trial)
+    public void registerServices() {
+        ServiceFactory.register(RegisteredService.class, ServiceFactory.Scope.PROTOTYPE, RegisteredService::new);
+        ServiceFactory.register(SingletonService.class, ServiceFactory.Scope.SINGLETON, SingletonService::new);
+    }
+
+    @Benchmark
+    public SingletonService singleton() {
+        return ServiceFactory.createService(SingletonService.class);
+    }
+
+    @Benchmark
+    public RegisteredService prototype() {
+        return ServiceFactory.createService(RegisteredService.class);
+    }
+
+    @Benchmark
+    public UnregisteredService constructorHandle() {
+        return ServiceFactory.createService(UnregisteredService.class);
+    }
+
+    /**
+     * How createService used to create every service.
+     */
+    @Benchmark
+    public UnregisteredService reflection() throws NoSuchMethodException, InvocationTargetException,
+            InstantiationException, IllegalAccessException {
+        return UnregisteredService.class.getDeclaredConstructor().newInstance();
+    }
+}
@@ -0,0 +1,109 @@
+package com.topcard.service.player;
+
+import com.topcard.domain.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up a player in players.csv with the regex split of every line (before)
+ * and with the in-place PlayerCsvScanner (after). The player looked up is the last row,
+ * so both scan the whole file.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=PlayerCsvBenchmark
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerCsvBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private Path dataFile;
+    private int lastId;
+    private String lastUsername;
+
+    @Setup(Level.Trial)
+    public void createDataFile() throws IOException {
+        dataFile = Files.createTempFile("players-bench", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(dataFile)) {
+            for (int id = 1; id <= rows; id++) {
+                writer.write(id + ",user" + id + ",$2a$10$Og9XgjW8hH7a46pDCeQVh.MqxBx6qjT5gNpIhwij6YoLxYdDhjy5u,"
+                        + "First" + id + ",Last" + id + ",1990-01-01,100,false");
+                writer.newLine();
+            }
+        }
+        lastId = rows;
+        lastUsername = "user" + rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDataFile() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    @Benchmark
+    public Player findByIdSplit() {
+        for (String line : PlayerCsv.readLines(dataFile)) {
+            if (PlayerCsv.parseInt(PlayerCsv.splitLine(line)[0]) == lastId) {
+                return PlayerCsv.toPlayer(line);
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Player findByIdScanner() {
+        return PlayerCsvScanner.get().findById(dataFile, lastId);
+    }
+
+    @Benchmark
+    public Player findByUsernameSplit() {
+        for (String line : PlayerCsv.readLines(dataFile)) {
+            if (PlayerCsv.splitLine(line)[1].trim().equals(lastUsername)) {
+                return PlayerCsv.toPlayer(line);
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Player findByUsernameScanner() {
+        return PlayerCsvScanner.get().findByUsername(dataFile, lastUsername);
+    }
+
+    @Benchmark
+    public int maxIdSplit() {
+        List<String> lines = PlayerCsv.readLines(dataFile);
+        return lines.stream()
+                .mapToInt(line -> line.isEmpty() ? 0 : PlayerCsv.parseInt(PlayerCsv.splitLine(line)[0]))
+                .max().orElse(0);
+    }
+
+    @Benchmark
+    public int maxIdScanner() {
+        return PlayerCsvScanner.get().maxId(dataFile);
+    }
+}
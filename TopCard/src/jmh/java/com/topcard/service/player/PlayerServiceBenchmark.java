@@ -0,0 +1,98 @@
+package com.topcard.service.player;
+
+import com.topcard.debug.Debug;
+import com.topcard.domain.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures PlayerService lookups and updates against generated players.csv files of 1k, 10k and
+ * 100k rows. Lookups target the last row, so they scan the whole file.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=PlayerServiceBenchmark
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private Path dataFile;
+    private PlayerService playerService;
+    private int lastId;
+    private String lastUsername;
+    private Map<Integer, Integer> roundDeltas;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void createDataFile() throws IOException {
+        Debug.setDebugMode(false);
+        dataFile = Files.createTempFile("players-bench", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(dataFile)) {
+            for (int id = 1; id <= rows; id++) {
+                writer.write(id + ",user" + id + ",$2a$10$Og9XgjW8hH7a46pDCeQVh.MqxBx6qjT5gNpIhwij6YoLxYdDhjy5u,"
+                        + "First" + id + ",Last" + id + ",1990-01-01,100,false");
+                writer.newLine();
+            }
+        }
+        playerService = new PlayerService(dataFile);
+        lastId = rows;
+        lastUsername = "user" + rows;
+        // A betting round of four players: the main player wins against the other three
+        roundDeltas = Map.of(1, 30, rows / 3, -10, 2 * rows / 3, -10, rows, -10);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDataFile() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    @Benchmark
+    public Player getPlayerById() {
+        return playerService.getPlayerById(lastId);
+    }
+
+    @Benchmark
+    public Player getPlayerByUsername() {
+        return playerService.getPlayerByUsername(lastUsername);
+    }
+
+    @Benchmark
+    public int retrievePointForPlayer() {
+        return playerService.retrievePointForPlayer(lastId);
+    }
+
+    @Benchmark
+    public void changePoints() {
+        playerService.changePoints(lastId, round++);
+    }
+
+    @Benchmark
+    public void applyPointDeltas() {
+        playerService.applyPointDeltas(roundDeltas);
+    }
+}
@@ -0,0 +1,80 @@
+package com.topcard.service.player;
+
+import com.topcard.domain.Player;
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of a profile update that does not change the password (after), against the
+ * same update preceded by the BCrypt check and re-encryption every update used to run (before),
+ * and against an actual password change.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=PlayerUpdateBenchmark
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerUpdateBenchmark {
+
+    private Path dataFile;
+    private IndexedPlayerService playerService;
+    private Player player;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void createPlayer() throws IOException {
+        dataFile = Files.createTempFile("players-bench", ".csv");
+        playerService = new IndexedPlayerService(dataFile);
+        player = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        playerService.addPlayer(player);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(dataFile.resolveSibling(dataFile.getFileName() + ".journal"));
+        Files.deleteIfExists(dataFile.resolveSibling(dataFile.getFileName() + ".journal.1"));
+        Files.deleteIfExists(dataFile.resolveSibling(dataFile.getFileName() + ".seq"));
+    }
+
+    @Benchmark
+    public void updateProfileWithPasswordCheck() {
+        player.setPoints(round++);
+        if (!BCrypt.checkpw(player.getPassword(), player.getPassword())) {
+            player.changePassword(player.getPassword());
+        }
+        playerService.updateProfile(player);
+    }
+
+    @Benchmark
+    public void updateProfile() {
+        player.setPoints(round++);
+        playerService.updateProfile(player);
+    }
+
+    @Benchmark
+    public void changePassword() {
+        playerService.changePassword(player.getPlayerId(), "mouse" + round++);
+    }
+}
@@ -0,0 +1,64 @@
+package com.topcard.sim;
+
+import com.topcard.debug.Debug;
+import com.topcard.domain.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures equity queries on the common fork/join pool: a fully known three-card hand and a
+ * hand with only its first card known, against the rest of the table, both counted exactly,
+ * and the known hand estimated from sampled deals for comparison.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=EquityBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquityBenchmark {
+
+    private static final Card[] HAND = {Card.of(Card.Suit.HEARTS, Card.Rank.KING),
+            Card.of(Card.Suit.SPADES, Card.Rank.SEVEN), Card.of(Card.Suit.CLUBS, Card.Rank.THREE)};
+
+    @Param({"2", "3", "4", "8"})
+    public int numOfPlayers;
+
+    private EquityCalculator calculator;
+
+    @Setup(Level.Trial)
+    public void createCalculator() {
+        Debug.setDebugMode(false);
+        calculator = new EquityCalculator(numOfPlayers, 3);
+    }
+
+    @Benchmark
+    public Equity knownHand() {
+        return calculator.calculate(HAND);
+    }
+
+    @Benchmark
+    public Equity oneKnownCard() {
+        return calculator.calculate(HAND[0]);
+    }
+
+    @Benchmark
+    public Equity estimatedHand() {
+        return calculator.estimate(HAND);
+    }
+}
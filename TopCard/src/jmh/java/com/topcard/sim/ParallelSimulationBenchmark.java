@@ -0,0 +1,64 @@
+package com.topcard.sim;
+
+import com.topcard.debug.Debug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how parallel simulation scales with the number of fork/join threads, in rounds per
+ * second of a four-player table. Near-linear scaling up to the number of cores is expected, since
+ * workers share nothing but the chunk seeds until they merge.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=ParallelSimulationBenchmark
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelSimulationBenchmark {
+
+    private static final int ROUNDS = 64 * MonteCarloSimulator.CHUNK_ROUNDS;
+    private static final long SEED = 20241103L;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private MonteCarloSimulator simulator;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+        Debug.setDebugMode(false);
+        simulator = new MonteCarloSimulator(4, 3, 10, SEED);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public SimulationResult rounds() {
+        return simulator.runParallel(ROUNDS, pool);
+    }
+}
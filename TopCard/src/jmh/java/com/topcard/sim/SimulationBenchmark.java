@@ -0,0 +1,55 @@
+package com.topcard.sim;
+
+import com.topcard.debug.Debug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures simulated rounds per second on one thread: shuffle, deal, find the winners and settle
+ * the bets of a whole table. Each invocation plays a batch of rounds, reported per round.
+ * Run with -prof gc to see the bytes allocated per round.
+ * <p>
+ * Run with: gradlew jmh -PjmhIncludes=SimulationBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark {
+
+    private static final int ROUNDS = 10_000;
+    private static final long SEED = 20241103L;
+
+    @Param({"2", "4", "8"})
+    public int numOfPlayers;
+
+    private MonteCarloSimulator simulator;
+
+    @Setup(Level.Trial)
+    public void createSimulator() {
+        Debug.setDebugMode(false);
+        simulator = new MonteCarloSimulator(numOfPlayers, 3, 10, SEED);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public SimulationResult rounds() {
+        return simulator.run(ROUNDS);
+    }
+}
@@ -1,5 +1,6 @@
 package com.topcard.app;
 
+import com.topcard.config.TopCardConfig;
 import com.topcard.debug.Debug;
 import com.topcard.exceptions.TopCardException;
 import com.topcard.presentation.common.Constants;
@@ -12,14 +13,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.Properties;
 
 /**
  * This is the main entry point of the application.
  * The MainApp class initializes the application and sets up the main login frame.
- * It also configures the debug mode based on the settings in the config.properties file.
+ * It also configures the debug mode based on the settings in the config.properties file,
+ * read once into the application configuration.
  * <p>
  * Author: Rajesh Rajchal
  * Date: 12/13/2024
@@ -139,28 +139,14 @@ public class MainApp {
      * Set debug.mode=true for displaying debug message
      * Set debug.mode=false for not displaying debug message
      * <p>
-     * This method reads the debug mode setting from the config.properties file and
-     * configures the Debug class accordingly. If the properties file is not found or
-     * an error occurs while reading the file, the debug mode is not set.
+     * The config file is copied first, so that the application configuration, loaded on
+     * first use, reads it. The setting can also be overridden with -Dtopcard.debug.mode
+     * or the TOPCARD_DEBUG_MODE environment variable.
      * </p>
      */
     private static void setDebugModeFromConfig() {
         ensureConfigFileExists();
-        Properties properties = new Properties();
-        Path configFilePath = Paths.get("config", "config.properties");
-
-        try (InputStream input = Files.newInputStream(configFilePath)) {
-            // Load the properties file
-            properties.load(input);
-
-            // Set debug mode based on the property
-            boolean debugMode = Boolean.parseBoolean(properties.getProperty("debug.mode"));
-            Debug.setDebugMode(debugMode);
-        } catch (IOException ex) {
-            Debug.setDebugMode(true);
-            Debug.error("Error reading config.properties: " + ex.toString());
-            Debug.setDebugMode(false);
-        }
+        Debug.setDebugMode(TopCardConfig.getDefault().isDebugMode());
     }
 
     /**
@@ -168,8 +154,8 @@ public class MainApp {
      * If they do not exist, creates the directory and copies the config.properties file.
      */
     private static void ensureConfigFileExists() {
-        Path configDir = Paths.get("config");
-        Path configFilePath = configDir.resolve("config.properties");
+        Path configFilePath = TopCardConfig.CONFIG_FILE;
+        Path configDir = configFilePath.getParent();
 
         try {
             // Check if the config directory exists, if not create it
@@ -199,15 +185,10 @@ public class MainApp {
      * @throws TopCardException if an I/O error occurs while creating the file or directories.
      */
     public static void createDataDirAndFile() {
-        Properties properties = new Properties();
-        Path configFilePath = Paths.get("config", "config.properties");
-        try (InputStream input = Files.newInputStream(configFilePath)) {
-            // Load the properties file
-            properties.load(input);
-            // Get the file path from properties
-            String filePath = properties.getProperty("FILE_PATH");
-            Path dataFilePath = Paths.get(filePath);
-
+        TopCardConfig config = TopCardConfig.getDefault();
+        String filePath = config.get(TopCardConfig.FILE_PATH);
+        Path dataFilePath = config.getDataFilePath();
+        try {
             // Check if the data file exists, if not copy it from the classpath
             if (Files.notExists(dataFilePath)) {
                 try (InputStream dataInput = MainApp.class.getClassLoader().getResourceAsStream(filePath)) {
@@ -220,7 +201,7 @@ public class MainApp {
                 }
             }
         } catch (IOException ex) {
-            throw new TopCardException("Error reading config.properties or copying data file: " + ex);
+            throw new TopCardException("Error copying data file: " + ex);
         }
     }
 
@@ -2,6 +2,7 @@ package com.topcard.business;
 
 import com.topcard.domain.Card;
 import com.topcard.domain.Player;
+import com.topcard.domain.Settlement;
 import com.topcard.service.factory.ServiceFactory;
 import com.topcard.service.game.GameService;
 import com.topcard.service.game.IGameService;
@@ -78,6 +79,25 @@ public class GameManager {
         return gameService.executeBettingRound(points);
     }
 
+    /**
+     * Executes a betting round with the specified points, without storing it.
+     *
+     * @param points the points for the betting round
+     * @return the settlement of the round, to be stored with {@link #storeSettlement(Settlement)}
+     */
+    public Settlement settleBets(int points) {
+        return gameService.settleBets(points);
+    }
+
+    /**
+     * Stores the points won or lost in a betting round.
+     *
+     * @param settlement the settlement of the round
+     */
+    public void storeSettlement(Settlement settlement) {
+        gameService.storeSettlement(settlement);
+    }
+
     /**
      * Determines the winner(s) of the game.
      *
@@ -0,0 +1,94 @@
+package com.topcard.business;
+
+import com.topcard.domain.Card;
+import com.topcard.domain.Player;
+import com.topcard.domain.Settlement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameRound holds the outcome of one round of a {@link GameSession}: the hands dealt, the winners
+ * and the points won or lost by each seat.
+ * <p>
+ * The players reuse their hands from round to round, so the hands are copied and a round can be
+ * displayed or stored while the session plays the next one.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class GameRound {
+
+    private final int number;
+    private final List<Card[]> hands;
+    private final List<Player> winners;
+    private final Settlement settlement;
+
+    /**
+     * Constructs a GameRound.
+     *
+     * @param number     the number of the round in its session, from 1
+     * @param hands      the hands of the players, in the order of their seats
+     * @param winners    the winning players
+     * @param settlement the points won or lost by each seat
+     */
+    GameRound(int number, List<Card[]> hands, List<Player> winners, Settlement settlement) {
+        this.number = number;
+        List<Card[]> handsCopy = new ArrayList<>(hands.size());
+        for (Card[] hand : hands) {
+            handsCopy.add(hand.clone());
+        }
+        this.hands = Collections.unmodifiableList(handsCopy);
+        this.winners = Collections.unmodifiableList(new ArrayList<>(winners));
+        this.settlement = settlement;
+    }
+
+    /**
+     * Returns the number of the round in its session.
+     *
+     * @return the round number, from 1
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns a copy of the cards dealt to a seat.
+     *
+     * @param seat the seat, in the order of the players
+     * @return the cards of the seat
+     */
+    public Card[] getHand(int seat) {
+        return hands.get(seat).clone();
+    }
+
+    /**
+     * Returns the number of seats of the round.
+     *
+     * @return the number of hands dealt
+     */
+    public int getNumOfSeats() {
+        return hands.size();
+    }
+
+    /**
+     * Returns the winning players of the round.
+     *
+     * @return an unmodifiable list of the winners
+     */
+    public List<Player> getWinners() {
+        return winners;
+    }
+
+    /**
+     * Returns the points won or lost by each seat.
+     *
+     * @return the settlement of the round
+     */
+    public Settlement getSettlement() {
+        return settlement;
+    }
+}
@@ -0,0 +1,82 @@
+package com.topcard.business;
+
+import com.topcard.domain.Player;
+import com.topcard.domain.Settlement;
+import com.topcard.service.factory.ServiceFactory;
+import com.topcard.service.game.GameService;
+import com.topcard.service.game.IGameService;
+
+import java.util.List;
+
+/**
+ * GameSession plays round after round at one table.
+ * <p>
+ * The session is created once per table. Creating it registers the players and loads their stored
+ * points, and it keeps the game service, the deck and the players in memory between rounds, so a
+ * round only shuffles, deals and settles. The points of each round are written with
+ * {@link #storeRound(GameRound)} as a single update of the deltas, so rounds never read the
+ * player data again.
+ * </p>
+ * <p>
+ * The deck and the players change with every round, so a session must be played by one thread at a
+ * time, like {@link com.topcard.domain.Game}.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public class GameSession {
+
+    private final IGameService gameService;
+    private int roundsPlayed;
+
+    /**
+     * Constructs a session for a table, registering the players and loading their stored points.
+     *
+     * @param players the players of the table, the main player first
+     */
+    public GameSession(List<Player> players) {
+        this.gameService = ServiceFactory.createService(GameService.class, players);
+    }
+
+    /**
+     * Plays the next round: deals the cards and settles the bets in memory.
+     *
+     * @param bet the amount of points each player bets
+     * @return the round, to be stored with {@link #storeRound(GameRound)}
+     */
+    public GameRound nextRound(int bet) {
+        gameService.startGame();
+        Settlement settlement = gameService.settleBets(bet);
+        roundsPlayed++;
+        return new GameRound(roundsPlayed, gameService.getHands(), gameService.determineWinner(), settlement);
+    }
+
+    /**
+     * Stores the points won or lost in a round.
+     *
+     * @param round a round played by this session
+     */
+    public void storeRound(GameRound round) {
+        gameService.storeSettlement(round.getSettlement());
+    }
+
+    /**
+     * Returns the players of the table, with their points after the last round.
+     *
+     * @return the players, the main player first
+     */
+    public List<Player> getPlayers() {
+        return gameService.getPlayers();
+    }
+
+    /**
+     * Returns the number of rounds played in this session.
+     *
+     * @return the number of rounds
+     */
+    public int getRoundsPlayed() {
+        return roundsPlayed;
+    }
+}
@@ -3,11 +3,15 @@ package com.topcard.business;
 import com.topcard.domain.Player;
 import com.topcard.service.factory.ServiceFactory;
 import com.topcard.service.player.IPlayerService;
-import com.topcard.service.player.PlayerService;
-import org.mindrot.jbcrypt.BCrypt;
+import com.topcard.service.player.PlayerImportReport;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * PlayerManager is responsible for managing player-related operations.
@@ -19,13 +23,25 @@ import java.util.List;
  * </p>
  */
 public class PlayerManager {
+
+    /**
+     * Runs password checks off the calling thread. BCrypt is CPU bound, so the pool is sized to the
+     * available processors, and its daemon threads never keep the application alive.
+     */
+    private static final ExecutorService PASSWORD_EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), task -> {
+                Thread thread = new Thread(task, "password-verifier");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     private final IPlayerService playerService;
 
     /**
      * Constructs a new PlayerManager and initializes the player service.
      */
     public PlayerManager() {
-        this.playerService = ServiceFactory.createService(PlayerService.class);
+        this.playerService = ServiceFactory.createService(IPlayerService.class);
     }
 
     /**
@@ -46,6 +62,17 @@ public class PlayerManager {
         playerService.addPlayers(players);
     }
 
+    /**
+     * Imports a stream of new players, skipping usernames that are already taken.
+     *
+     * @param players  the players to import
+     * @param progress receives a report after every stored chunk, may be null
+     * @return the final import report
+     */
+    public PlayerImportReport importPlayers(Iterator<Player> players, Consumer<PlayerImportReport> progress) {
+        return playerService.importPlayers(players, progress);
+    }
+
     /**
      * Removes a player by their ID.
      *
@@ -113,6 +140,16 @@ public class PlayerManager {
         playerService.updateProfile(player);
     }
 
+    /**
+     * Changes a player's password.
+     *
+     * @param playerId    the ID of the player
+     * @param newPassword the new plain text password
+     */
+    public void changePassword(int playerId, String newPassword) {
+        playerService.changePassword(playerId, newPassword);
+    }
+
     /**
      * Updates the profile of a player by their ID.
      *
@@ -134,8 +171,43 @@ public class PlayerManager {
         playerService.updateProfiles(players);
     }
 
+    /**
+     * Verifies a plain text password against an encrypted password.
+     *
+     * @param plainPassword     the plain text password
+     * @param encryptedPassword the encrypted password
+     * @return true if the password matches, false otherwise
+     */
     public boolean verifyPassword(String plainPassword, String encryptedPassword) {
-        return ((PlayerService)playerService).verifyPassword(plainPassword, encryptedPassword);
+        return playerService.verifyPassword(plainPassword, encryptedPassword);
+    }
+
+    /**
+     * Checks a username and password against the stored player.
+     *
+     * @param username the username entered by the user
+     * @param password the plain text password entered by the user
+     * @return true if the player exists and the password matches, false otherwise
+     */
+    public boolean authenticate(String username, String password) {
+        if (username == null || username.isEmpty() || password == null || password.isEmpty()) {
+            return false;
+        }
+        Player player = playerService.getPlayerByUsername(username);
+        return player != null && player.getUsername().equals(username) &&
+                playerService.verifyPassword(password, player.getPassword());
+    }
+
+    /**
+     * Checks a username and password on the password verification pool, so that the slow BCrypt
+     * check never blocks the calling thread, typically the Swing event dispatch thread.
+     *
+     * @param username the username entered by the user
+     * @param password the plain text password entered by the user
+     * @return a future completed with true if the player exists and the password matches
+     */
+    public CompletableFuture<Boolean> authenticateAsync(String username, String password) {
+        return CompletableFuture.supplyAsync(() -> authenticate(username, password), PASSWORD_EXECUTOR);
     }
 
     /**
@@ -0,0 +1,200 @@
+package com.topcard.config;
+
+import com.topcard.exceptions.TopCardException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The TopCardConfig class holds the settings of the application, read once from config.properties
+ * and never changed afterwards.
+ * <p>
+ * Each setting is resolved from, in increasing priority: the built-in default, the config file,
+ * an environment variable named TOPCARD_ followed by the key in upper case with dots replaced by
+ * underscores (TOPCARD_PLAYER_STORE, TOPCARD_DEBUG_MODE), and a system property named topcard.
+ * followed by the key (-Dtopcard.PLAYER_STORE=indexed). A missing config file only leaves the
+ * defaults, so the services can run in tests and benchmarks without a config directory.
+ * </p>
+ * <p>
+ * The application uses the shared {@link #getDefault()} configuration, loaded on first use. Services
+ * can also be given their own configuration, for example a player store per test fixture over
+ * files of its own, built with {@link #load(Path)} or {@link #of(Map)}.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class TopCardConfig {
+
+    /**
+     * The player data file (CSV).
+     */
+    public static final String FILE_PATH = "FILE_PATH";
+
+    /**
+     * The binary player file of the binary player store.
+     */
+    public static final String BINARY_FILE_PATH = "BINARY_FILE_PATH";
+
+    /**
+     * The player store: csv, indexed or binary.
+     */
+    public static final String PLAYER_STORE = "PLAYER_STORE";
+
+    /**
+     * Whether debug messages are displayed.
+     */
+    public static final String DEBUG_MODE = "debug.mode";
+
+    /**
+     * The config file of the application, relative to the working directory.
+     */
+    public static final Path CONFIG_FILE = Paths.get("config", "config.properties");
+
+    private static final String SYSTEM_PROPERTY_PREFIX = "topcard.";
+    private static final String ENVIRONMENT_PREFIX = "TOPCARD_";
+    private static final Map<String, String> DEFAULTS = Map.of(
+            FILE_PATH, "data/players.csv",
+            BINARY_FILE_PATH, "data/players.bin",
+            PLAYER_STORE, "csv",
+            DEBUG_MODE, "false");
+
+    private final Map<String, String> values;
+
+    private TopCardConfig(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Returns the configuration of the application, loading {@link #CONFIG_FILE} and the overrides
+     * on first use.
+     *
+     * @return the shared configuration
+     */
+    public static TopCardConfig getDefault() {
+        return DefaultHolder.CONFIG;
+    }
+
+    /**
+     * Loads a configuration from a config file, with the environment and system property overrides.
+     *
+     * @param configFile the properties file, which may not exist
+     * @return the configuration
+     * @throws TopCardException if the config file exists but cannot be read
+     */
+    public static TopCardConfig load(Path configFile) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        if (Files.exists(configFile)) {
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(configFile)) {
+                properties.load(input);
+            } catch (IOException ex) {
+                throw new TopCardException("Failed to load configuration properties. " + ex.getMessage());
+            }
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, properties.getProperty(key).trim());
+            }
+        }
+        for (String key : values.keySet().toArray(new String[0])) {
+            String override = System.getenv(ENVIRONMENT_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_'));
+            override = System.getProperty(SYSTEM_PROPERTY_PREFIX + key, override);
+            if (override != null) {
+                values.put(key, override.trim());
+            }
+        }
+        return new TopCardConfig(values);
+    }
+
+    /**
+     * Builds a configuration from the given settings and the defaults, without reading any file
+     * or override.
+     *
+     * @param settings the settings by key
+     * @return the configuration
+     */
+    public static TopCardConfig of(Map<String, String> settings) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        values.putAll(settings);
+        return new TopCardConfig(values);
+    }
+
+    /**
+     * Returns a copy of this configuration with one setting changed.
+     *
+     * @param key   the key of the setting
+     * @param value the new value
+     * @return the new configuration
+     */
+    public TopCardConfig with(String key, String value) {
+        Map<String, String> changed = new HashMap<>(values);
+        changed.put(key, value);
+        return new TopCardConfig(changed);
+    }
+
+    /**
+     * Returns a setting.
+     *
+     * @param key the key of the setting
+     * @return the value, or null if it is not set
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the player data file configured by FILE_PATH.
+     *
+     * @return the player data file path
+     */
+    public Path getDataFilePath() {
+        return Paths.get(values.get(FILE_PATH));
+    }
+
+    /**
+     * Returns the binary player file configured by BINARY_FILE_PATH.
+     *
+     * @return the binary player file path
+     */
+    public Path getBinaryFilePath() {
+        return Paths.get(values.get(BINARY_FILE_PATH));
+    }
+
+    /**
+     * Returns the player store configured by PLAYER_STORE, "csv" by default.
+     *
+     * @return the configured player store
+     */
+    public String getPlayerStore() {
+        return values.get(PLAYER_STORE);
+    }
+
+    /**
+     * Returns whether debug messages are displayed, as configured by debug.mode.
+     *
+     * @return true in debug mode
+     */
+    public boolean isDebugMode() {
+        return Boolean.parseBoolean(values.get(DEBUG_MODE));
+    }
+
+    @Override
+    public String toString() {
+        return "TopCardConfig" + values;
+    }
+
+    /**
+     * Loads the shared configuration when it is first used.
+     */
+    private static final class DefaultHolder {
+        private static final TopCardConfig CONFIG = load(CONFIG_FILE);
+    }
+}
@@ -20,6 +20,20 @@ public class Card implements Serializable {
     private Suit suit;
     private Rank rank;
 
+    /**
+     * One shared instance per card, indexed by {@link CardCodes} code. Cards are immutable, so every
+     * deck can hold the same 52 instances.
+     */
+    private static final Card[] FLYWEIGHTS = new Card[CardCodes.NUM_OF_CODES];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                FLYWEIGHTS[CardCodes.of(suit, rank)] = new Card(suit, rank);
+            }
+        }
+    }
+
     public Card() {
 
     }
@@ -35,6 +49,27 @@ public class Card implements Serializable {
         this.rank = rank;
     }
 
+    /**
+     * Returns the shared instance of a card.
+     *
+     * @param suit the suit of the card
+     * @param rank the rank of the card
+     * @return the shared card
+     */
+    public static Card of(Suit suit, Rank rank) {
+        return FLYWEIGHTS[CardCodes.of(suit, rank)];
+    }
+
+    /**
+     * Returns the shared instance of a card code.
+     *
+     * @param code the card code, 0 to 51
+     * @return the shared card
+     */
+    static Card of(int code) {
+        return FLYWEIGHTS[code];
+    }
+
     /**
      * The Suit enum represents the four possible suits of a playing card.
      */
@@ -115,9 +150,22 @@ public class Card implements Serializable {
      * @return the total value of the cards
      */
     public int getCardsValue(Card[] cards) {
+        return valueOf(cards);
+    }
+
+    /**
+     * Calculates the total value of the given array of cards without needing a Card instance.
+     * Empty slots count as zero.
+     *
+     * @param cards the array of cards
+     * @return the total value of the cards
+     */
+    public static int valueOf(Card[] cards) {
         int totalValue = 0;
         for (Card card : cards) {
-            totalValue += getCardValue(card);
+            if (card != null) {
+                totalValue += card.rank.getValue();
+            }
         }
         return totalValue;
     }
@@ -150,6 +198,16 @@ public class Card implements Serializable {
         return rank + " OF " + suit;
     }
 
+    /**
+     * Replaces a deserialized card with the shared instance.
+     *
+     * @return the shared card
+     */
+    @Serial
+    private Object readResolve() {
+        return suit == null || rank == null ? this : of(suit, rank);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -4,12 +4,11 @@ import com.topcard.debug.Debug;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.Collections;
 
 /**
  * The Deck class represents a deck of playing cards.
  * It provides methods to shuffle the deck and deal a card from it.
+ * A deck is not thread-safe; concurrent games each deal from a deck of their own.
  * <p>
  * Author: Rajesh Rajchal
  * Date: 10/27/2024
@@ -28,36 +27,101 @@ public class Deck implements Serializable {
      */
     private int currentIndex;
 
+    /**
+     * How the deck is shuffled; the thread-local random Fisher-Yates shuffle unless set otherwise.
+     */
+    private transient ShuffleStrategy shuffleStrategy;
+
     /**
      * Total number of cards in a deck
      */
     final static int NUM_OF_CARDS_IN_DECK = 52;
 
     /**
-     * Constructs a new Deck with 52 cards, including all suits and ranks.
+     * The shared cards in the order of a new deck: by suit, then from ACE to KING.
      */
-    public Deck() {
-        Debug.info("Deck created.");
-        cards = new Card[NUM_OF_CARDS_IN_DECK];
-        currentIndex = 0;
-        // Create the deck
+    private static final Card[] NEW_DECK_ORDER = new Card[NUM_OF_CARDS_IN_DECK];
+
+    static {
         int index = 0;
         for (Card.Suit suit : Card.Suit.values()) {
             for (Card.Rank rank : Card.Rank.values()) {
-                cards[index++] = new Card(suit, rank);
+                NEW_DECK_ORDER[index++] = Card.of(suit, rank);
             }
         }
     }
 
+    /**
+     * Constructs a new Deck with 52 cards, including all suits and ranks.
+     * The cards are the shared {@link Card#of(Card.Suit, Card.Rank)} instances.
+     */
+    public Deck() {
+        this(ShuffleStrategy.random());
+    }
+
+    /**
+     * Constructs a new Deck with 52 cards, shuffled with the given strategy.
+     * For example, {@code new Deck(ShuffleStrategy.seeded(42))} always deals the same cards.
+     *
+     * @param shuffleStrategy the shuffle strategy
+     */
+    public Deck(ShuffleStrategy shuffleStrategy) {
+        Debug.info("Deck created.");
+        this.shuffleStrategy = shuffleStrategy;
+        cards = new Card[NUM_OF_CARDS_IN_DECK];
+        reset();
+    }
+
+    /**
+     * Puts every card back in the order of a new deck, in place, so one deck can be reused
+     * for any number of rounds without allocating.
+     */
+    public void reset() {
+        System.arraycopy(NEW_DECK_ORDER, 0, cards, 0, NUM_OF_CARDS_IN_DECK);
+        currentIndex = 0;
+    }
+
     /**
      * Shuffles the deck, randomizing the order of the cards.
      * Gets ready to deal card. Card will be dealt from the top (currentIndex 0)
      */
     public void shuffle() {
-        Collections.shuffle(Arrays.asList(cards));
+        shuffle(cards.length);
+    }
+
+    /**
+     * Shuffles only the cards that will be dealt, for example players times numOfCards.
+     * The first numOfCardsToDeal cards are as random as after a full shuffle.
+     * Card will be dealt from the top (currentIndex 0)
+     *
+     * @param numOfCardsToDeal the number of cards to randomize
+     */
+    public void shuffle(int numOfCardsToDeal) {
+        getShuffleStrategy().shuffle(cards, numOfCardsToDeal);
         currentIndex = 0;
     }
 
+    /**
+     * Returns the shuffle strategy of the deck.
+     *
+     * @return the shuffle strategy
+     */
+    public ShuffleStrategy getShuffleStrategy() {
+        if (shuffleStrategy == null) {
+            shuffleStrategy = ShuffleStrategy.random(); // after deserialization
+        }
+        return shuffleStrategy;
+    }
+
+    /**
+     * Sets the shuffle strategy of the deck.
+     *
+     * @param shuffleStrategy the shuffle strategy
+     */
+    public void setShuffleStrategy(ShuffleStrategy shuffleStrategy) {
+        this.shuffleStrategy = shuffleStrategy;
+    }
+
     /**
      * Deals a card from the deck. If no more cards are available, returns null.
      *
@@ -94,4 +158,4 @@ public class Deck implements Serializable {
         return sb.toString();
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
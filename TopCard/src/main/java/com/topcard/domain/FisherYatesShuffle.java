@@ -0,0 +1,47 @@
+package com.topcard.domain;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The FisherYatesShuffle class shuffles cards in place with the Fisher-Yates algorithm.
+ * <p>
+ * Position i takes a card picked uniformly from positions i to the end, so stopping after the
+ * first count positions gives a uniformly random partial deal at a fraction of the cost of a
+ * full shuffle, and no list wrapper is allocated.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class FisherYatesShuffle implements ShuffleStrategy {
+
+    /**
+     * Shuffle using ThreadLocalRandom, safe to share between threads.
+     */
+    static final FisherYatesShuffle THREAD_LOCAL = new FisherYatesShuffle(null);
+
+    private final RandomGenerator random; // null for the generator of the calling thread
+
+    /**
+     * Constructs a FisherYatesShuffle drawing from the given random generator.
+     *
+     * @param random the random generator, or null to use the generator of the calling thread
+     */
+    public FisherYatesShuffle(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public void shuffle(Card[] cards, int count) {
+        RandomGenerator generator = random != null ? random : ThreadLocalRandom.current();
+        int last = Math.min(count, cards.length - 1);
+        for (int i = 0; i < last; i++) {
+            int j = i + generator.nextInt(cards.length - i);
+            Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import java.util.List;
 /**
  * The Game class represents a card game.
  * It manages the deck, players, and game state.
+ * A game changes its deck and its players as it plays, so it must not be played by several threads
+ * at once nor share its deck or players with another game played concurrently.
  * <p>
  * Author: Rajesh Rajchal
  * Date: 11/07/2024
@@ -30,17 +32,41 @@ public class Game implements Serializable {
      * @param players the list of players participating in the game
      */
     public Game(List<Player> players) {
+        this(players, new Deck());
+    }
+
+    /**
+     * Constructs a new Game with the specified players, dealing from the given deck.
+     * A deck with a seeded {@link ShuffleStrategy} makes the game reproducible.
+     *
+     * @param players the list of players participating in the game
+     * @param deck    the deck to deal from
+     */
+    public Game(List<Player> players, Deck deck) {
         Debug.info("Game created.");
-        this.deck = new Deck();
+        this.deck = deck;
         this.players = players;
     }
 
     /**
      * Start game and plays the complete game by shuffling the deck,
      * dealing cards, showing hands, and displaying winners.
+     * Only the cards that are dealt are shuffled.
+     * Any number of players may sit at the table, each with its own number of cards,
+     * as long as all the hands can be dealt from one deck.
+     *
+     * @throws IllegalStateException if the players hold more cards than the deck has
      */
     public void startGame() {
-        deck.shuffle();
+        int numOfCardsToDeal = 0;
+        for (Player player : players) {
+            numOfCardsToDeal += player.getNumOfCards();
+        }
+        if (numOfCardsToDeal > Deck.NUM_OF_CARDS_IN_DECK) {
+            throw new IllegalStateException("Cannot deal " + numOfCardsToDeal + " cards to " + players.size()
+                    + " players from a deck of " + Deck.NUM_OF_CARDS_IN_DECK);
+        }
+        deck.shuffle(numOfCardsToDeal);
         dealCards();
     }
 
@@ -96,33 +122,12 @@ public class Game implements Serializable {
      * K > Q > J > 10 > 9 > 8 > 7 > 6 > 5 > 4 > 3 > 2 > A.
      * If multiple players have the highest points with the same total and card rankings,
      * they are all considered winners and receive the betting amount from the other players.
+     * Both rules are packed in each hand's {@link HandEvaluator} strength key, so this is a single pass.
      *
      * @return the list of winning players
      */
     public List<Player> determineWinner() {
-        List<Player> winners = new ArrayList<>();
-        int highestValue = 0;
-
-        // Determine the highest hand value
-        for (Player player : players) {
-            if (player.getHandValue() > highestValue) {
-                highestValue = player.getHandValue();
-            }
-        }
-
-        // Find players with the highest points
-        for (Player player : players) {
-            if (player.getHandValue() == highestValue) {
-                winners.add(player);
-            }
-        }
-
-        // If there is a tie, determine the winner based on card rankings
-        if (winners.size() > 1) {
-            winners = determineWinnerByCardRankings(winners);
-        }
-
-        return winners;
+        return HandEvaluator.winners(players);
     }
 
     /**
@@ -167,21 +172,33 @@ public class Game implements Serializable {
      *
      * @param points the amount of points each player bets
      * @param players the list of Player objects where the first player is the main player
-     * @return the list of players with updated points
+     * @return the list of players with updated points, the main player last
      */
     public List<Player> betAndUpdatePlayerPoints(int points, List<Player> players) {
         if (players == null || players.isEmpty()) {
             return players; // No players to bet with, return the original list
         }
 
-        // The main player is the first player in the list
-        Player mainPlayer = players.get(0);
+        Settlement.againstMainPlayer(points, players).apply();
 
-        // The rest of the players
-        List<Player> otherPlayers = players.subList(1, players.size());
+        // The rest of the players, followed by the main player
+        List<Player> updatedPlayers = new ArrayList<>(players.size());
+        updatedPlayers.addAll(players.subList(1, players.size()));
+        updatedPlayers.add(players.get(0));
+        return updatedPlayers;
+    }
 
-        // Call updatePoints with main player and other players, and return the updated list
-        return mainPlayer.updatePoints(points, otherPlayers);
+    /**
+     * Executes a betting round for the players of the game, the first player being the main player,
+     * and returns what each player won or lost.
+     *
+     * @param points the amount of points each player bets
+     * @return the settlement of the round, already applied to the players
+     */
+    public Settlement settleBets(int points) {
+        Settlement settlement = Settlement.againstMainPlayer(points, players);
+        settlement.apply();
+        return settlement;
     }
 
     /**
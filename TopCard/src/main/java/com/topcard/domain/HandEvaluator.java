@@ -0,0 +1,210 @@
+package com.topcard.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The HandEvaluator class ranks hands with a single int strength key, so that finding the winners
+ * of a table is one pass comparing ints.
+ * <p>
+ * The key packs the two rules of {@link Game#determineWinner()}: the total value of the hand in the
+ * high bits, and the rank of its strongest card (KING highest, ACE lowest) in the low four bits.
+ * A higher key wins and equal keys share the win, exactly like comparing the totals first and then
+ * the best card precedence of the tied players.
+ * </p>
+ * <p>
+ * For hands of up to {@link #MAX_TABLE_CARDS} cards, the key of every rank combination is
+ * precomputed once into a table indexed by the ranks of the cards, so evaluating a hand is one
+ * lookup. Evaluators are immutable and shared, one per number of cards, by the game and by
+ * simulations.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class HandEvaluator {
+
+    /**
+     * Largest number of cards per hand with a precomputed table (13^4 keys).
+     */
+    public static final int MAX_TABLE_CARDS = 4;
+
+    private static final int RANK_BITS = 4;
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+    private static final Card.Rank[] RANKS = Card.Rank.values();
+    private static final int NUM_OF_RANKS = RANKS.length;
+    private static final HandEvaluator[] EVALUATORS = new HandEvaluator[Deck.NUM_OF_CARDS_IN_DECK + 1];
+
+    private final int numOfCards;
+    private final int[] keysByRanks; // null when the table would be too large
+
+    private HandEvaluator(int numOfCards) {
+        this.numOfCards = numOfCards;
+        this.keysByRanks = numOfCards <= MAX_TABLE_CARDS ? buildTable(numOfCards) : null;
+    }
+
+    /**
+     * Returns the shared evaluator for hands of the given number of cards.
+     *
+     * @param numOfCards the number of cards per hand, 1 to 52
+     * @return the evaluator
+     */
+    public static HandEvaluator forCards(int numOfCards) {
+        if (numOfCards < 1 || numOfCards > Deck.NUM_OF_CARDS_IN_DECK) {
+            throw new IllegalArgumentException("Invalid number of cards: " + numOfCards);
+        }
+        HandEvaluator evaluator = EVALUATORS[numOfCards];
+        if (evaluator == null) {
+            // Evaluators are immutable, so building one twice in a race is harmless.
+            evaluator = new HandEvaluator(numOfCards);
+            EVALUATORS[numOfCards] = evaluator;
+        }
+        return evaluator;
+    }
+
+    /**
+     * Returns the strength key of a hand.
+     *
+     * @param hand the cards of the hand
+     * @return the strength key; higher is stronger, 0 for a hand without cards
+     */
+    public int strength(Card[] hand) {
+        if (keysByRanks == null || hand.length != numOfCards) {
+            return computeStrength(hand);
+        }
+        int index = 0;
+        for (Card card : hand) {
+            if (card == null) {
+                return computeStrength(hand);
+            }
+            index = index * NUM_OF_RANKS + card.getRank().ordinal();
+        }
+        return keysByRanks[index];
+    }
+
+    /**
+     * Returns the strength key of a hand of any size, without a table.
+     *
+     * @param hand the cards of the hand, empty slots are ignored
+     * @return the strength key; higher is stronger, 0 for a hand without cards
+     */
+    public static int computeStrength(Card[] hand) {
+        int value = 0;
+        int topRank = -1;
+        for (Card card : hand) {
+            if (card != null) {
+                value += card.getRank().getValue();
+                topRank = Math.max(topRank, card.getRank().ordinal());
+            }
+        }
+        return key(value, topRank);
+    }
+
+    /**
+     * Returns the strength key of a {@link CardCodes} bitmask hand.
+     *
+     * @param hand the bitmask hand
+     * @return the strength key; higher is stronger, 0 for the empty hand
+     */
+    public static int strength(long hand) {
+        if (hand == CardCodes.EMPTY_HAND) {
+            return 0;
+        }
+        return key(CardCodes.handValue(hand), CardCodes.rank(63 - Long.numberOfLeadingZeros(hand)).ordinal());
+    }
+
+    /**
+     * Returns the total hand value packed in a strength key.
+     *
+     * @param strength the strength key
+     * @return the total value of the hand
+     */
+    public static int handValue(int strength) {
+        return strength >>> RANK_BITS;
+    }
+
+    /**
+     * Returns the precedence of the strongest card packed in a strength key.
+     *
+     * @param strength the strength key of a hand with cards
+     * @return the best (lowest) precedence, as in {@link Card.Rank#getPrecedence()}
+     */
+    public static int bestPrecedence(int strength) {
+        return RANKS[(strength & RANK_MASK) - 1].getPrecedence();
+    }
+
+    /**
+     * Finds the winners of a table in one pass over the players' strength keys. Every player with the
+     * highest key wins.
+     *
+     * @param players the players with their hands dealt
+     * @return the winning players, in table order
+     */
+    public static List<Player> winners(List<Player> players) {
+        List<Player> winners = new ArrayList<>();
+        int best = Integer.MIN_VALUE;
+        for (Player player : players) {
+            int strength = player.getHandStrength();
+            if (strength > best) {
+                best = strength;
+                winners.clear();
+                winners.add(player);
+            } else if (strength == best) {
+                winners.add(player);
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Marks the winners of a table like {@link #winners(List)}, into a flag array instead of a new
+     * list, for loops that play many rounds.
+     *
+     * @param players the players with their hands dealt
+     * @param won     receives true at the index of every winner and false elsewhere; at least as long
+     *                as the list of players
+     * @return the number of winners
+     */
+    public static int markWinners(List<Player> players, boolean[] won) {
+        int numOfPlayers = players.size();
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < numOfPlayers; i++) {
+            best = Math.max(best, players.get(i).getHandStrength());
+        }
+        int numOfWinners = 0;
+        for (int i = 0; i < numOfPlayers; i++) {
+            won[i] = players.get(i).getHandStrength() == best;
+            if (won[i]) {
+                numOfWinners++;
+            }
+        }
+        return numOfWinners;
+    }
+
+    private static int key(int value, int topRank) {
+        return (value << RANK_BITS) | (topRank + 1);
+    }
+
+    /**
+     * Precomputes the key of every combination of ranks, indexed by the rank ordinals in base 13.
+     */
+    private static int[] buildTable(int numOfCards) {
+        int size = 1;
+        for (int i = 0; i < numOfCards; i++) {
+            size *= NUM_OF_RANKS;
+        }
+        int[] keys = new int[size];
+        for (int index = 0; index < size; index++) {
+            int value = 0;
+            int topRank = -1;
+            for (int rest = index, i = 0; i < numOfCards; i++, rest /= NUM_OF_RANKS) {
+                int rank = rest % NUM_OF_RANKS;
+                value += RANKS[rank].getValue();
+                topRank = Math.max(topRank, rank);
+            }
+            keys[index] = key(value, topRank);
+        }
+        return keys;
+    }
+}
@@ -34,10 +34,16 @@ public class Player implements Serializable {
     private boolean isAdmin;
 
     private boolean isLoggedIn;
+    // Set when a new plain text password is given, so that only then the password is encrypted again
+    private transient boolean passwordChanged;
     private static final int AGE_THRESHOLD = 18;  // Eligible age to play this game
     // 3 by default for this TopCard card game. However, for scalability we can set differently
     private int numOfCards = 3;
     private Card[] hand;
+    // Value and strength key of the current hand, computed once per hand and cleared whenever the hand changes
+    private transient int handValue;
+    private transient int handStrength;
+    private transient boolean handEvaluated;
 
     /**
      * Constructs a Player with the specified details, excluding admin status.
@@ -97,6 +103,10 @@ public class Player implements Serializable {
         return isLoggedIn;
     }
 
+    public boolean isPasswordChanged() {
+        return passwordChanged;
+    }
+
     public int getNumOfCards() {
         if (this.numOfCards <= 0 || this.numOfCards > Deck.NUM_OF_CARDS_IN_DECK) {
             setNumOfCards(this.numOfCards); // will set to default number of cards.
@@ -149,14 +159,48 @@ public class Player implements Serializable {
         this.isLoggedIn = isLoggedIn;
     }
 
+    /**
+     * Replaces the password with a new plain text password, to be encrypted when the profile is saved.
+     * Unlike setPassword, which holds the stored (encrypted) password, this marks the password as changed.
+     *
+     * @param newPassword the new plain text password
+     */
+    public void changePassword(String newPassword) {
+        this.password = newPassword;
+        this.passwordChanged = true;
+    }
+
+    /**
+     * Marks the password as saved, after it has been encrypted and stored.
+     */
+    public void clearPasswordChanged() {
+        this.passwordChanged = false;
+    }
+
+    /**
+     * Sets the number of cards dealt to the player. A hand of another size is dropped,
+     * so the next deal fills a hand of the new size.
+     *
+     * @param numOfCards the number of cards, ignored unless positive
+     */
     public void setNumOfCards(int numOfCards) {
         if (numOfCards > 0) {
             this.numOfCards = numOfCards;
+            if (this.hand != null && this.hand.length != numOfCards) {
+                setHand(null);
+            }
         }
     }
 
+    /**
+     * Sets the player's hand. Code that changes the cards of the array returned by getHand
+     * must set it again, so that the hand value is computed anew.
+     *
+     * @param hand the cards of the hand
+     */
     public void setHand(Card[] hand) {
         this.hand = hand;
+        this.handEvaluated = false;
     }
 
     /**
@@ -196,13 +240,39 @@ public class Player implements Serializable {
     }
 
     /**
-     * Calculates and returns the total value of the player's hand.
+     * Returns the total value of the player's hand. The value is computed once per hand,
+     * without allocating, and kept until the hand changes.
      *
      * @return the total value of the hand
      */
     public int getHandValue() {
-        Card card = new Card();
-        return card.getCardsValue(hand);
+        if (!handEvaluated) {
+            evaluateHand();
+        }
+        return handValue;
+    }
+
+    /**
+     * Returns the strength key of the player's hand, as computed by {@link HandEvaluator}.
+     * Like the hand value, it is computed once per hand.
+     *
+     * @return the strength key of the hand; higher is stronger
+     */
+    public int getHandStrength() {
+        if (!handEvaluated) {
+            evaluateHand();
+        }
+        return handStrength;
+    }
+
+    /**
+     * Computes the value and the strength key of the current hand.
+     */
+    private void evaluateHand() {
+        Card[] cards = getHand();
+        handValue = Card.valueOf(cards);
+        handStrength = cards.length == 0 ? 0 : HandEvaluator.forCards(cards.length).strength(cards);
+        handEvaluated = true;
     }
 
     /**
@@ -217,6 +287,7 @@ public class Player implements Serializable {
         }
         if (hand.length <= numOfCards) {
             hand[hand.length - 1] = card;
+            handEvaluated = false;
         }
         return card;
     }
@@ -238,6 +309,7 @@ public class Player implements Serializable {
             }
 
         }
+        evaluateHand();
         return hand;
     }
 
@@ -0,0 +1,164 @@
+package com.topcard.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Settlement class computes the points each seat of a table wins or loses in a betting round,
+ * without changing the players until {@link #apply()} is called.
+ * <p>
+ * Two rules are supported:
+ * </p>
+ * <ul>
+ *     <li>{@link #againstMainPlayer(int, List)}: the rule of {@link Game#betAndUpdatePlayerPoints(int, List)}.
+ *     The first player bets against every other player; the higher hand value takes the bet from the
+ *     lower one and equal values exchange nothing. This is one pass over the table.</li>
+ *     <li>{@link #allPairs(int, List)}: every player bets against every other player, for tournament
+ *     tables. The stronger {@link HandEvaluator} key takes the bet and equal keys exchange nothing.
+ *     Instead of comparing all the N * (N - 1) / 2 pairs, the keys are sorted once, so a seat's net
+ *     win is the bet times the number of weaker seats minus the number of stronger seats, both read
+ *     from its position in the sorted keys. This is O(N log N) and allocates two arrays.</li>
+ * </ul>
+ * <p>
+ * Players compare equal by their points too, so the deltas are kept by seat and reported by player ID.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class Settlement {
+
+    private static final long SEAT_MASK = 0xFFFFFFFFL;
+
+    private final List<Player> players;
+    private final int[] deltas;
+    private Map<Integer, Integer> pointDeltas;
+
+    private Settlement(List<Player> players, int[] deltas) {
+        this.players = players;
+        this.deltas = deltas;
+    }
+
+    /**
+     * Settles a round where the first player bets against every other player, comparing hand values.
+     *
+     * @param betPoints the points bet against each other player
+     * @param players   the players with their hands dealt, the main player first
+     * @return the settlement of the round
+     */
+    public static Settlement againstMainPlayer(int betPoints, List<Player> players) {
+        int[] deltas = new int[players.size()];
+        computeAgainstMainPlayer(betPoints, players, deltas);
+        return new Settlement(players, deltas);
+    }
+
+    /**
+     * Computes the points each seat wins or loses like {@link #againstMainPlayer(int, List)}, into
+     * an array instead of a new settlement, for loops that play many rounds.
+     *
+     * @param betPoints the points bet against each other player
+     * @param players   the players with their hands dealt, the main player first
+     * @param deltas    receives the points won by each seat, negative when lost; at least as long
+     *                  as the list of players
+     */
+    public static void computeAgainstMainPlayer(int betPoints, List<Player> players, int[] deltas) {
+        int numOfSeats = players.size();
+        Arrays.fill(deltas, 0, numOfSeats, 0);
+        if (numOfSeats > 0) {
+            Player mainPlayer = players.get(0);
+            int handValue = mainPlayer.getHandValue();
+            for (int seat = 1; seat < numOfSeats; seat++) {
+                Player other = players.get(seat);
+                if (other == mainPlayer) {
+                    continue;
+                }
+                int otherHandValue = other.getHandValue();
+                if (handValue > otherHandValue) {
+                    deltas[0] += betPoints;
+                    deltas[seat] -= betPoints;
+                } else if (handValue < otherHandValue) {
+                    deltas[0] -= betPoints;
+                    deltas[seat] += betPoints;
+                }
+            }
+        }
+    }
+
+    /**
+     * Settles a round where every player bets against every other player, comparing strength keys.
+     *
+     * @param betPoints the points bet against each other player
+     * @param players   the players with their hands dealt
+     * @return the settlement of the round
+     */
+    public static Settlement allPairs(int betPoints, List<Player> players) {
+        int numOfSeats = players.size();
+        // Strength keys are not negative, so sorting the packed longs sorts by strength, then by seat.
+        long[] keys = new long[numOfSeats];
+        for (int seat = 0; seat < numOfSeats; seat++) {
+            keys[seat] = (long) players.get(seat).getHandStrength() << Integer.SIZE | seat;
+        }
+        Arrays.sort(keys);
+
+        int[] deltas = new int[numOfSeats];
+        int first = 0;
+        while (first < numOfSeats) {
+            int strength = (int) (keys[first] >>> Integer.SIZE);
+            int end = first + 1;
+            while (end < numOfSeats && (int) (keys[end] >>> Integer.SIZE) == strength) {
+                end++;
+            }
+            // first seats are weaker, numOfSeats - end seats are stronger
+            int delta = betPoints * (first - (numOfSeats - end));
+            for (int i = first; i < end; i++) {
+                deltas[(int) (keys[i] & SEAT_MASK)] = delta;
+            }
+            first = end;
+        }
+        return new Settlement(players, deltas);
+    }
+
+    /**
+     * Returns the points a seat wins or loses.
+     *
+     * @param seat the seat, in the order of the players
+     * @return the points won, negative when lost
+     */
+    public int getDelta(int seat) {
+        return deltas[seat];
+    }
+
+    /**
+     * Returns the points won or lost by each player who won or lost points, by player ID,
+     * ready to be stored with a single update of the player data.
+     *
+     * @return an unmodifiable map of player ID to points won, negative when lost
+     */
+    public Map<Integer, Integer> getPointDeltas() {
+        if (pointDeltas == null) {
+            Map<Integer, Integer> deltasById = new HashMap<>();
+            for (int seat = 0; seat < deltas.length; seat++) {
+                if (deltas[seat] != 0) {
+                    deltasById.merge(players.get(seat).getPlayerId(), deltas[seat], Integer::sum);
+                }
+            }
+            pointDeltas = Collections.unmodifiableMap(deltasById);
+        }
+        return pointDeltas;
+    }
+
+    /**
+     * Adds the points won or lost to each player.
+     */
+    public void apply() {
+        for (int seat = 0; seat < deltas.length; seat++) {
+            if (deltas[seat] != 0) {
+                players.get(seat).changePoints(deltas[seat]);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.topcard.domain;
+
+import java.util.SplittableRandom;
+
+/**
+ * The ShuffleStrategy interface defines how a {@link Deck} puts its cards in random order.
+ * <p>
+ * A strategy randomizes the cards in place. It may randomize only the first cards of the array,
+ * the ones that will actually be dealt, which is enough for a round that deals players times
+ * numOfCards cards.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public interface ShuffleStrategy {
+
+    /**
+     * Randomizes the first count positions of the array. Every card of the array is equally likely
+     * to end up in each of those positions; the order of the remaining positions is unspecified.
+     *
+     * @param cards the cards to shuffle in place
+     * @param count the number of leading positions to randomize, at most cards.length
+     */
+    void shuffle(Card[] cards, int count);
+
+    /**
+     * Returns the default strategy: an in-place Fisher-Yates shuffle using the random generator
+     * of the calling thread, so decks shuffled on different threads never contend.
+     *
+     * @return the default shuffle strategy
+     */
+    static ShuffleStrategy random() {
+        return FisherYatesShuffle.THREAD_LOCAL;
+    }
+
+    /**
+     * Returns a Fisher-Yates shuffle driven by a seeded SplittableRandom, so the same seed always
+     * deals the same cards. The strategy is meant for one deck and is not thread-safe.
+     *
+     * @param seed the seed of the shuffle
+     * @return a reproducible shuffle strategy
+     */
+    static ShuffleStrategy seeded(long seed) {
+        return new FisherYatesShuffle(new SplittableRandom(seed));
+    }
+}
@@ -0,0 +1,191 @@
+package com.topcard.presentation.common;
+
+import com.topcard.debug.Debug;
+import com.topcard.domain.Card;
+import com.topcard.domain.CardCodes;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The CardImageCache class decodes the 52 card images and the back card image once, so that dealing
+ * a round only points the card views at images already in memory.
+ * <p>
+ * The images are decoded on a background thread as soon as the cache is created, downscaled to the
+ * requested size while decoding, which also keeps the JPEG decoding off the JavaFX application thread.
+ * A view that needs an image before the preload is over waits for it.
+ * </p>
+ * <p>
+ * In atlas mode, the decoded images are packed into a single texture and each card view shows its
+ * own cell of it through a viewport, so all the cards of the table share one image.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class CardImageCache {
+
+    private static final String IMAGE_PATH = "/images/";
+    private static final String BACK_CARD = "BACK CARD";
+    private static final String IMAGE_EXTENSION = ".JPG";
+    private static final int BACK_INDEX = CardCodes.NUM_OF_CODES;
+    private static final int NUM_OF_IMAGES = CardCodes.NUM_OF_CODES + 1;
+    private static final int ATLAS_COLUMNS = 8;
+    private static final int MAX_ATLAS_SIZE = 4096; // smallest maximum texture size of the JavaFX pipelines
+
+    private static CardImageCache sharedCache;
+
+    private final double width;
+    private final double height;
+    private final Image[] images = new Image[NUM_OF_IMAGES];
+    private final Rectangle2D[] viewports = new Rectangle2D[NUM_OF_IMAGES]; // null unless packed in an atlas
+    private final CompletableFuture<Void> loaded;
+
+    /**
+     * Constructs a cache and starts decoding the images in the background.
+     *
+     * @param width  the width to downscale the images to, 0 to keep the original width
+     * @param height the height to downscale the images to, 0 to keep the original height
+     * @param atlas  true to pack the images into a single texture
+     */
+    public CardImageCache(double width, double height, boolean atlas) {
+        this.width = width;
+        this.height = height;
+        this.loaded = CompletableFuture.runAsync(() -> load(atlas), task -> {
+            Thread thread = new Thread(task, "card-images");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Returns the cache shared by the game views, creating it on first use with the card size and
+     * atlas mode of {@link Constants}. Calling it early, for example at login, preloads the images
+     * before the first game.
+     *
+     * @return the shared cache
+     */
+    public static synchronized CardImageCache getSharedCache() {
+        if (sharedCache == null) {
+            sharedCache = new CardImageCache(Constants.CARD_IMAGE_WIDTH, Constants.CARD_IMAGE_HEIGHT,
+                    Constants.CARD_IMAGE_ATLAS);
+        }
+        return sharedCache;
+    }
+
+    /**
+     * Shows a card in an image view.
+     *
+     * @param imageView the view to show the card in
+     * @param card      the card, or null to clear the view
+     */
+    public void display(ImageView imageView, Card card) {
+        if (card == null) {
+            imageView.setImage(null);
+            imageView.setViewport(null);
+        } else {
+            display(imageView, CardCodes.of(card));
+        }
+    }
+
+    /**
+     * Shows the back of a card in an image view.
+     *
+     * @param imageView the view to show the back card in
+     */
+    public void displayBack(ImageView imageView) {
+        display(imageView, BACK_INDEX);
+    }
+
+    /**
+     * Returns true once every image has been decoded.
+     *
+     * @return true if the images are loaded
+     */
+    public boolean isLoaded() {
+        return loaded.isDone();
+    }
+
+    private void display(ImageView imageView, int index) {
+        loaded.join(); // returns at once after the preload
+        imageView.setImage(images[index]);
+        imageView.setViewport(viewports[index]);
+    }
+
+    /**
+     * Decodes every image, then packs them into an atlas if requested.
+     */
+    private void load(boolean atlas) {
+        long start = System.nanoTime();
+        for (int index = 0; index < NUM_OF_IMAGES; index++) {
+            images[index] = decode(index == BACK_INDEX ? BACK_CARD : CardCodes.toCard(index).toString());
+        }
+        if (atlas) {
+            packAtlas();
+        }
+        Debug.info("Loaded " + NUM_OF_IMAGES + " card images in " + (System.nanoTime() - start) / 1_000_000 + " ms"
+                + (atlas ? " into an atlas" : ""));
+    }
+
+    private Image decode(String name) {
+        String imagePath = IMAGE_PATH + name + IMAGE_EXTENSION;
+        try (InputStream input = getClass().getResourceAsStream(imagePath)) {
+            if (input == null) {
+                Debug.error("Card image not found: " + imagePath);
+                return null;
+            }
+            Image image = new Image(input, width, height, true, true);
+            if (image.isError()) {
+                Debug.error("Failed to load image: " + imagePath);
+                return null;
+            }
+            return image;
+        } catch (IOException e) {
+            Debug.error("Failed to load image: " + imagePath + " " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Copies the images into the cells of one texture, each cell the size of the largest image,
+     * and points every card at its cell. The images are kept separate if the texture would be too large.
+     */
+    private void packAtlas() {
+        int cellWidth = 0;
+        int cellHeight = 0;
+        for (Image image : images) {
+            if (image != null) {
+                cellWidth = Math.max(cellWidth, (int) image.getWidth());
+                cellHeight = Math.max(cellHeight, (int) image.getHeight());
+            }
+        }
+        int rows = (NUM_OF_IMAGES + ATLAS_COLUMNS - 1) / ATLAS_COLUMNS;
+        if (cellWidth == 0 || ATLAS_COLUMNS * cellWidth > MAX_ATLAS_SIZE || rows * cellHeight > MAX_ATLAS_SIZE) {
+            Debug.warn("Card images are not packed into an atlas: " + cellWidth + "x" + cellHeight + " cells");
+            return;
+        }
+
+        WritableImage atlasImage = new WritableImage(ATLAS_COLUMNS * cellWidth, rows * cellHeight);
+        PixelWriter writer = atlasImage.getPixelWriter();
+        for (int index = 0; index < NUM_OF_IMAGES; index++) {
+            Image image = images[index];
+            if (image == null) {
+                continue;
+            }
+            int x = index % ATLAS_COLUMNS * cellWidth;
+            int y = index / ATLAS_COLUMNS * cellHeight;
+            int imageWidth = (int) image.getWidth();
+            int imageHeight = (int) image.getHeight();
+            writer.setPixels(x, y, imageWidth, imageHeight, image.getPixelReader(), 0, 0);
+            images[index] = atlasImage;
+            viewports[index] = new Rectangle2D(x, y, imageWidth, imageHeight);
+        }
+    }
+}
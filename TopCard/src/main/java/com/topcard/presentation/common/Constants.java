@@ -9,6 +9,7 @@ public class Constants {
     public static final String FAILED = "Failed";
     public static final String NO_PLAYER_FOUND = "No player found";
     public static final String INVALID_USERNAME_OR_PASSWORD = "Invalid username or password";
+    public static final String SIGNING_IN = "Signing in...";
     public static final String PASSWORD_NOT_MATCH = "Password does not match";
     public static final String FIRST_NAME_CANNOT_HAVE_SPACES = "First name cannot have spaces.";
     public static final String LAST_NAME_CANNOT_HAVE_SPACES = "First name cannot have spaces.";
@@ -24,6 +25,11 @@ public class Constants {
     public static final String AGREEMENT_REQUIRED = "Terms Agreement Required";
     public static final String I_AGREE_TERMS = "<html>I agree to the <a href='#'>Terms of Use</a> and <a href='#'>Privacy Policy</a>.</html>";
     public static final String ALREADY_HAVE_ACCOUNT = "<html>Already have an account? <a href='#'>Login here</a></html>";
+    public static final int TABLE_SEATS = 4;
+    public static final int CARDS_PER_HAND = 3;
+    public static final double CARD_IMAGE_WIDTH = 62;
+    public static final double CARD_IMAGE_HEIGHT = 84;
+    public static final boolean CARD_IMAGE_ATLAS = true;
     public static final String ABOUT_GAME = "About Game";
     public static final String ABOUT_GAME_INFO = "<html><body style='width: 450px;'>" +
             "<b>About Game</b><br><br>" +
@@ -1,27 +1,45 @@
 package com.topcard.presentation.controller;
 
-import com.topcard.business.GameManager;
-import com.topcard.business.PlayerManager;
+import com.topcard.business.GameRound;
+import com.topcard.business.GameSession;
 import com.topcard.debug.Debug;
 import com.topcard.domain.Card;
 import com.topcard.domain.Player;
+import com.topcard.presentation.common.CardImageCache;
+import com.topcard.presentation.common.Constants;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * This class represents the GameController.
  * It manages the user interactions for the game view.
- *
+ * The table has one seat per player, each showing as many cards as the player is dealt,
+ * so the seats are built from the players rather than declared in the FXML.
+ * Card images come from the shared {@link CardImageCache}, so a round decodes no image.
+ * <p>
+ * The table is played by one {@link GameSession}, created with the first round, so the players
+ * are registered and loaded once. Rounds still write the player data, so they are played
+ * off the JavaFX application thread: dealing and settling the bets run as a {@link Task} while the
+ * view shows that the cards are being dealt, the round is shown as soon as it is settled, and the
+ * points are stored afterwards. The session, its rounds and their writes are only used on a single
+ * thread, one at a time.
+ * </p>
  * <p>
  * Author: Rajesh Rajchal
  * Date: 12/13/2024
@@ -30,94 +48,154 @@ import java.util.stream.Collectors;
  */
 public class GameController {
 
+    private static final ExecutorService ROUND_EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "game-rounds");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @FXML
-    private ImageView player1C1, player1C2, player1C3;
-    @FXML
-    private ImageView player2C1, player2C2, player2C3;
+    private Pane seatsPane;
     @FXML
-    private ImageView player3C1, player3C2, player3C3;
+    private Button startButton;
     @FXML
-    private ImageView player4C1, player4C2, player4C3;
+    private ProgressIndicator roundProgress;
     @FXML
     private TextField winnerTextField;
     @FXML
     private TextField betAmountTextField;
-    @FXML
-    private TextField player1FirstName, player1Balance, player1Change;
-    @FXML
-    private TextField player2FirstName, player2Balance, player2Change;
-    @FXML
-    private TextField player3FirstName, player3Balance, player3Change;
-    @FXML
-    private TextField player4FirstName, player4Balance, player4Change;
 
     private int betAmount = 0;
     private List<Player> players;
-    private GameManager gameManager;
+    private final List<Seat> seats = new ArrayList<>();
+    private final CardImageCache cardImages = CardImageCache.getSharedCache();
+    private GameSession session; // used on the round thread only
 
     /**
-     * Sets the list of players name in the UI.
+     * Seats the players at the table and sets their names in the UI.
+     * The first player is the main player and takes the first seat.
      *
      * @param players the list of players
      */
     public void setPlayersName(List<Player> players) {
         this.players = players;
-        player1FirstName.setText(players.get(0).getFirstName());
-        player2FirstName.setText(players.get(1).getFirstName());
-        player3FirstName.setText(players.get(2).getFirstName());
-        player4FirstName.setText(players.get(3).getFirstName());
-
-        player1Balance.setText(String.valueOf(players.get(0).getPoints()));
-        player2Balance.setText(String.valueOf(players.get(1).getPoints()));
-        player3Balance.setText(String.valueOf(players.get(2).getPoints()));
-        player4Balance.setText(String.valueOf(players.get(3).getPoints()));
+        seats.clear();
+        seatsPane.getChildren().clear();
+        for (Player player : players) {
+            Seat seat = new Seat(player.getNumOfCards());
+            seat.firstName.setText(player.getFirstName());
+            seat.balance.setText(String.valueOf(player.getPoints()));
+            for (ImageView card : seat.cards) {
+                cardImages.displayBack(card);
+            }
+            seats.add(seat);
+            seatsPane.getChildren().add(seat.root);
+        }
     }
 
     /**
-     * Sets the balance of players name in the UI.
+     * Sets the balance of players in the UI.
      *
-     * @param players the list of players
+     * @param players the list of players, in the order of their seats
      */
     public void setPlayersPoints(List<Player> players) {
-        this.players = players;
-        player1Balance.setText(String.valueOf(players.get(0).getPoints()));
-        player2Balance.setText(String.valueOf(players.get(1).getPoints()));
-        player3Balance.setText(String.valueOf(players.get(2).getPoints()));
-        player4Balance.setText(String.valueOf(players.get(3).getPoints()));
+        for (int seat = 0; seat < players.size() && seat < seats.size(); seat++) {
+            seats.get(seat).balance.setText(String.valueOf(players.get(seat).getPoints()));
+        }
     }
 
     /**
      * Handles the event when the start button is pressed.
-     * Validates the bet amount, starts the game, deals cards, executes the betting round,
-     * updates player point changes, and displays the winners.
+     * Validates the bet amount, then plays the round in the background: starts the game, deals cards
+     * and executes the betting round. When the round is settled, displays the cards, the player point
+     * changes and the winners, and stores the points.
      */
     @FXML
     private void startButtonPressed() {
         Debug.info("Start Game button pressed");
-        // Initialize GameManager with the players
-        gameManager = new GameManager(players);
-        boolean valid = checkForBetAmount();
-        if (valid) {
-            // Start the game and deal cards
-            gameManager.startGame();
-            PlayerManager pm = new PlayerManager();
-            // Clone the players list
-            List<Player> initialPlayers = clonePlayers(players);
+        if (!checkForBetAmount()) {
+            return;
+        }
+        int bet = betAmount;
+        Task<GameRound> roundTask = new Task<>() {
+            @Override
+            protected GameRound call() {
+                return playRound(bet);
+            }
+        };
+        roundTask.setOnSucceeded(event -> showRound(roundTask.getValue()));
+        roundTask.setOnFailed(event -> showFailure(roundTask.getException()));
+        setLoading(true);
+        ROUND_EXECUTOR.execute(roundTask);
+    }
+
+    /**
+     * Plays a round on the round thread: deals the cards and settles the bets in memory.
+     * The first round of a table also starts its session, which loads the stored points of the players.
+     *
+     * @param bet the amount of points each player bets
+     * @return the round to display and store
+     */
+    private GameRound playRound(int bet) {
+        if (session == null || session.getPlayers() != players) {
+            session = new GameSession(players);
+        }
+        return session.nextRound(bet);
+    }
 
-            // Execute betting round
-            List<Player> updatedPlayers = gameManager.executeBettingRound(betAmount);
+    /**
+     * Displays a settled round, then queues the write of its points on the round thread.
+     *
+     * @param round the settled round
+     */
+    private void showRound(GameRound round) {
+        displayCards(round);
+        updatePlayerPointChanges(round);
+        displayWinners(round.getWinners());
+        setPlayersPoints(players);
+        setLoading(false);
 
-            displayCards();
+        ROUND_EXECUTOR.execute(() -> {
+            try {
+                session.storeRound(round);
+            } catch (RuntimeException e) {
+                Debug.error("Failed to store the round: " + e.getMessage());
+                Platform.runLater(() -> showError("The points of the round could not be saved"));
+            }
+        });
+    }
 
-            updatePlayerPointChanges(initialPlayers, updatedPlayers);
+    /**
+     * Displays a round that could not be played.
+     *
+     * @param exception the cause of the failure
+     */
+    private void showFailure(Throwable exception) {
+        Debug.error("Failed to play the round: " + exception.getMessage());
+        setLoading(false);
+        showError("The round could not be played");
+    }
 
-            // Determine winners and display them
-            List<Player> winners = gameManager.determineWinner();
-            displayWinners(winners);
-            setPlayersPoints(updatedPlayers);
+    /**
+     * Shows or hides that a round is being played, and prevents starting another one meanwhile.
+     *
+     * @param loading true while a round is played
+     */
+    private void setLoading(boolean loading) {
+        startButton.setDisable(loading);
+        betAmountTextField.setDisable(loading);
+        roundProgress.setVisible(loading);
+        if (loading) {
+            winnerTextField.setStyle("");
+            winnerTextField.setText("Dealing...");
         }
     }
 
+    private void showError(String message) {
+        winnerTextField.setStyle("-fx-text-fill: red;");
+        winnerTextField.setText(message);
+    }
+
     /**
      * Validates the bet amount entered by the user.
      *
@@ -144,30 +222,18 @@ public class GameController {
     }
 
     /**
-     * Display cards in the ImageView elements.
+     * Display cards in the ImageView elements, one hand per seat in the order of the players.
+     *
+     * @param round the round to display
      */
-    private void displayCards() {
-        List<Card[]> hands = gameManager.getHands();
-
-        // Player 1
-        setCardImage(player1C1, hands.get(0)[0]);
-        setCardImage(player1C2, hands.get(0)[1]);
-        setCardImage(player1C3, hands.get(0)[2]);
-
-        // Player 2
-        setCardImage(player2C1, hands.get(1)[0]);
-        setCardImage(player2C2, hands.get(1)[1]);
-        setCardImage(player2C3, hands.get(1)[2]);
-
-        // Player 3
-        setCardImage(player3C1, hands.get(2)[0]);
-        setCardImage(player3C2, hands.get(2)[1]);
-        setCardImage(player3C3, hands.get(2)[2]);
-
-        // Player 4
-        setCardImage(player4C1, hands.get(3)[0]);
-        setCardImage(player4C2, hands.get(3)[1]);
-        setCardImage(player4C3, hands.get(3)[2]);
+    private void displayCards(GameRound round) {
+        for (int seat = 0; seat < round.getNumOfSeats(); seat++) {
+            Card[] hand = round.getHand(seat);
+            ImageView[] cards = seats.get(seat).cards;
+            for (int i = 0; i < cards.length; i++) {
+                setCardImage(cards[i], i < hand.length ? hand[i] : null);
+            }
+        }
     }
 
     /**
@@ -177,57 +243,17 @@ public class GameController {
      * @param card the card to be displayed
      */
     private void setCardImage(ImageView imageView, Card card) {
-        String imagePath = "/images/" + card.toString() + ".JPG";
-        Debug.info("Attempting to load image from path: " + imagePath);
-        try {
-            Image cardImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream(imagePath)));
-            Debug.info("Successfully loaded image: " + imagePath);
-            imageView.setImage(cardImage);
-        } catch (Exception e) {
-            Debug.error("Failed to load image: " + imagePath);
-            imageView.setImage(null); // Optionally set a placeholder or default image
-        }
+        cardImages.display(imageView, card);
     }
 
     /**
      * Updates the changes in player points and displays them in the UI.
      *
-     * @param initialPlayers the list of players before the betting round
-     * @param updatedPlayers the list of players with updated points
+     * @param round the round, with the points won or lost by each seat
      */
-    private void updatePlayerPointChanges(List<Player> initialPlayers, List<Player> updatedPlayers) {
-        // Create a map to store initial points for players
-        Map<String, Integer> initialPoints = initialPlayers.stream()
-                .collect(Collectors.toMap(Player::getUsername, Player::getPoints));
-
-        // Sort the updatedPlayers to match the order of initialPlayers by username
-        updatedPlayers.sort(Comparator.comparingInt(updatedPlayer ->
-                initialPlayers.indexOf(initialPlayers.stream()
-                        .filter(player -> player.getUsername().equals(updatedPlayer.getUsername()))
-                        .findFirst()
-                        .orElse(null))
-        ));
-
-        // Calculate and set the changes in player points
-        for (int i = 0; i < initialPlayers.size(); i++) {
-            int initialPoint = initialPoints.get(initialPlayers.get(i).getUsername());
-            int updatedPoint = updatedPlayers.get(i).getPoints();
-            int change = updatedPoint - initialPoint;
-
-            switch (i) {
-                case 0:
-                    player1Change.setText(String.valueOf(change));
-                    break;
-                case 1:
-                    player2Change.setText(String.valueOf(change));
-                    break;
-                case 2:
-                    player3Change.setText(String.valueOf(change));
-                    break;
-                case 3:
-                    player4Change.setText(String.valueOf(change));
-                    break;
-            }
+    private void updatePlayerPointChanges(GameRound round) {
+        for (int seat = 0; seat < seats.size(); seat++) {
+            seats.get(seat).change.setText(String.valueOf(round.getSettlement().getDelta(seat)));
         }
     }
 
@@ -244,29 +270,41 @@ public class GameController {
         winnerTextField.setText(winnerNames.toString().trim());
     }
 
-    private List<Player> clonePlayers(List<Player> players) {
-        return players.stream().map(this::clonePlayer).collect(Collectors.toList());
-    }
-
     /**
-     * Creates a deep copy of the given Player object.
-     * The cloned player retains the same ID, password, and other attributes as the original player.
-     *
-     * @param player the Player object to be cloned
-     * @return a new Player object that is a deep copy of the provided player
+     * The widgets of one seat: the player's cards above the First Name, Balance and Change fields.
      */
-    private Player clonePlayer(Player player) {
-        Player clonedPlayer = new Player(
-                player.getUsername(),
-                player.getPassword(),
-                player.getFirstName(),
-                player.getLastName(),
-                player.getDateOfBirth()
-        );
-        clonedPlayer.setPlayerId(player.getPlayerId());
-        clonedPlayer.setPoints(player.getPoints());
-        clonedPlayer.setAdmin(player.isAdmin());
-        clonedPlayer.setLoggedIn(player.isLoggedIn());
-        return clonedPlayer;
+    private static final class Seat {
+        private final VBox root = new VBox(4);
+        private final ImageView[] cards;
+        private final TextField firstName = newField(62);
+        private final TextField balance = newField(47);
+        private final TextField change = newField(47);
+
+        Seat(int numOfCards) {
+            HBox hand = new HBox(2);
+            hand.setMinHeight(Constants.CARD_IMAGE_HEIGHT);
+            cards = new ImageView[numOfCards];
+            for (int i = 0; i < numOfCards; i++) {
+                cards[i] = new ImageView();
+                cards[i].setFitHeight(Constants.CARD_IMAGE_HEIGHT);
+                cards[i].setFitWidth(Constants.CARD_IMAGE_WIDTH);
+                cards[i].setPreserveRatio(true);
+                cards[i].setPickOnBounds(true);
+                hand.getChildren().add(cards[i]);
+            }
+
+            GridPane fields = new GridPane();
+            fields.setHgap(8);
+            fields.addRow(0, firstName, balance, change);
+            fields.addRow(1, new Label("First Name"), new Label("Balance"), new Label("Change"));
+            root.getChildren().addAll(hand, fields);
+        }
+
+        private static TextField newField(double width) {
+            TextField field = new TextField();
+            field.setEditable(false);
+            field.setPrefWidth(width);
+            return field;
+        }
     }
 }
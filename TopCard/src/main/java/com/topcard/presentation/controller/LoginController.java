@@ -2,7 +2,6 @@ package com.topcard.presentation.controller;
 
 import com.topcard.business.PlayerManager;
 import com.topcard.debug.Debug;
-import com.topcard.domain.Player;
 import com.topcard.presentation.common.Constants;
 import com.topcard.presentation.common.InternalFrame;
 import com.topcard.presentation.common.Validation;
@@ -60,36 +59,79 @@ public class LoginController extends JFrame {
 
     /**
      * Handles the login process when the login button is clicked.
-     * It gathers the user inputs and initiates the authentication process.
+     * It gathers the user inputs and starts the authentication on the password verification pool;
+     * the result is applied back on the event dispatch thread.
      */
     private void handleLogin() {
         String username = loginView.getUsernameField().getText();
         String password = new String(loginView.getPasswordField().getPassword());
 
-        if (validateInputs(loginView.getUsernameField(), username, Constants.USERNAME_CANNOT_HAVE_SPACES) &&
-            validateInputs(loginView.getPasswordField(), password, Constants.PASSWORD_CANNOT_HAVE_SPACES) &&
-            authenticate(username, password)) {
+        if (!validateInputs(loginView.getUsernameField(), username, Constants.USERNAME_CANNOT_HAVE_SPACES) ||
+            !validateInputs(loginView.getPasswordField(), password, Constants.PASSWORD_CANNOT_HAVE_SPACES)) {
+            showLoginFailed();
+            return;
+        }
 
-            // Close the LoginView internal frame
-            JInternalFrame loginInternalFrame = (JInternalFrame) SwingUtilities.getAncestorOfClass(JInternalFrame.class, loginView.getLoginPanel());
-            if (loginInternalFrame != null) {
-                loginInternalFrame.dispose();
-            }
+        setSigningIn(true);
+        new PlayerManager().authenticateAsync(username, password)
+                .whenComplete((authenticated, error) -> SwingUtilities.invokeLater(() -> {
+                    setSigningIn(false);
+                    if (error != null) {
+                        Debug.error("Login failed: " + error.getMessage());
+                    }
+                    if (error == null && authenticated) {
+                        openOptions(username);
+                    } else {
+                        showLoginFailed();
+                    }
+                }));
+    }
 
-            // Initialize and add the options view as an internal frame
-            OptionsView optionsView = new OptionsView();
-            new OptionsController(optionsView, username, desktopPane);
+    /**
+     * Shows or hides the sign-in progress and locks the inputs while a login is being checked.
+     *
+     * @param signingIn true while the authentication is running
+     */
+    private void setSigningIn(boolean signingIn) {
+        loginView.getLoginButton().setEnabled(!signingIn);
+        loginView.getUsernameField().setEnabled(!signingIn);
+        loginView.getPasswordField().setEnabled(!signingIn);
+        loginView.getProgressBar().setVisible(signingIn);
+        loginView.getMessageLabel().setForeground(Color.DARK_GRAY);
+        loginView.getMessageLabel().setText(signingIn ? Constants.SIGNING_IN : "");
+        loginView.getLoginPanel().revalidate();
+    }
 
-            desktopPane.add(optionsView);
-            desktopPane.revalidate();
-            desktopPane.repaint();
+    /**
+     * Shows the invalid username or password message.
+     */
+    private void showLoginFailed() {
+        loginView.getMessageLabel().setForeground(Color.RED);
+        loginView.getMessageLabel().setText(Constants.INVALID_USERNAME_OR_PASSWORD);
+    }
 
-            // Add internal frame
-            InternalFrame.addInternalFrame(desktopPane, "Choose an Option", optionsView.getOptionsPanel(), 400, 200, false);
-        } else {
-            loginView.getMessageLabel().setForeground(Color.RED);
-            loginView.getMessageLabel().setText(Constants.INVALID_USERNAME_OR_PASSWORD);
+    /**
+     * Closes the login view and opens the options view for the logged in player.
+     *
+     * @param username the username of the logged in player
+     */
+    private void openOptions(String username) {
+        // Close the LoginView internal frame
+        JInternalFrame loginInternalFrame = (JInternalFrame) SwingUtilities.getAncestorOfClass(JInternalFrame.class, loginView.getLoginPanel());
+        if (loginInternalFrame != null) {
+            loginInternalFrame.dispose();
         }
+
+        // Initialize and add the options view as an internal frame
+        OptionsView optionsView = new OptionsView();
+        new OptionsController(optionsView, username, desktopPane);
+
+        desktopPane.add(optionsView);
+        desktopPane.revalidate();
+        desktopPane.repaint();
+
+        // Add internal frame
+        InternalFrame.addInternalFrame(desktopPane, "Choose an Option", optionsView.getOptionsPanel(), 400, 200, false);
     }
 
     /**
@@ -104,23 +146,6 @@ public class LoginController extends JFrame {
         return Validation.validateForSpaces(textField, text, errorMessage);
     }
 
-    /**
-     * Authenticates the user by verifying the provided username and password.
-     *
-     * @param username the username entered by the user
-     * @param password the password entered by the user
-     * @return true if the username and password are valid, false otherwise
-     */
-    private boolean authenticate(String username, String password) {
-        PlayerManager playerManager = new PlayerManager();
-        Player player = playerManager.getPlayerByUsername(username);
-
-        return username != null && !username.isEmpty() &&
-                password != null && !password.isEmpty() &&
-                player != null && player.getUsername().equals(username) &&
-                playerManager.verifyPassword(password, player.getPassword());
-    }
-
     /**
      * Handles the sign-up process when the sign-up link is clicked.
      * It opens the SignUpView and disables the Login frame.
@@ -3,6 +3,8 @@ package com.topcard.presentation.controller;
 import com.topcard.business.PlayerManager;
 import com.topcard.debug.Debug;
 import com.topcard.domain.Player;
+import com.topcard.presentation.common.CardImageCache;
+import com.topcard.presentation.common.Constants;
 import com.topcard.presentation.common.InternalFrame;
 import com.topcard.presentation.view.AddPlayerView;
 import com.topcard.presentation.view.GameView;
@@ -17,8 +19,8 @@ import java.awt.Window;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * This class represents the controller for the options view.
@@ -67,6 +69,10 @@ public class OptionsController {
         } else {
             optionsView.setAddPlayerButtonVisibility(false);
         }
+        // Decode the card images in the background while the player looks at the options
+        initJavaFx();
+        CardImageCache.getSharedCache();
+
         optionsView.getPlayGameButton().addActionListener(e -> handlePlayGame());
         optionsView.getUpdateButton().addActionListener(e -> handleUpdate(username));
         optionsView.getAddPlayerButton().addActionListener(e -> handleAddPlayer());
@@ -77,10 +83,8 @@ public class OptionsController {
      * It initializes the JavaFX environment, retrieves a list of players, and starts the game view.
      */
     private void handlePlayGame() {
-        // Initialize JavaFX environment if not already initialized
-        new JFXPanel();
-        Platform.setImplicitExit(false);
-        List<Player> players = getThreeRandomPlayers();
+        initJavaFx();
+        List<Player> players = getRandomPlayers(Constants.TABLE_SEATS, Constants.CARDS_PER_HAND);
 
         Platform.runLater(() -> {
             try {
@@ -95,26 +99,33 @@ public class OptionsController {
     }
 
     /**
-     * Retrieves a list of three random players excluding the authenticated user.
-     * The authenticated user is added as the first player.
+     * Initializes the JavaFX environment if not already initialized.
+     */
+    private void initJavaFx() {
+        new JFXPanel();
+        Platform.setImplicitExit(false);
+    }
+
+    /**
+     * Retrieves the players of a table: the authenticated user as the first player, followed by
+     * random other players. The table has fewer seats when there are not enough registered players.
      *
-     * @return the list of four players (including the authenticated user)
+     * @param numOfSeats the number of seats at the table, including the authenticated user
+     * @param numOfCards the number of cards dealt to each player
+     * @return the list of players (including the authenticated user)
      */
-    private List<Player> getThreeRandomPlayers() {
+    private List<Player> getRandomPlayers(int numOfSeats, int numOfCards) {
         PlayerManager playerManager = new PlayerManager();
-        List<Player> allPlayers = playerManager.getAllPlayers(); // Assuming this method exists
-        List<Player> selectedPlayers = new ArrayList<>();
-        selectedPlayers.add(player); // Add the logged-in player as the first player
+        List<Player> otherPlayers = new ArrayList<>(playerManager.getAllPlayers());
+        otherPlayers.removeIf(other -> other.getUsername().equals(player.getUsername()));
+        Collections.shuffle(otherPlayers);
 
-        // Randomly select three other players from the list
-        Random rand = new Random();
-        while (selectedPlayers.size() < 4) {
-            Player randomPlayer = allPlayers.get(rand.nextInt(allPlayers.size()));
-            if (!selectedPlayers.contains(randomPlayer)) {
-                selectedPlayers.add(randomPlayer);
-            }
+        List<Player> selectedPlayers = new ArrayList<>(numOfSeats);
+        selectedPlayers.add(player); // Add the logged-in player as the first player
+        selectedPlayers.addAll(otherPlayers.subList(0, Math.min(numOfSeats - 1, otherPlayers.size())));
+        for (Player selectedPlayer : selectedPlayers) {
+            selectedPlayer.setNumOfCards(numOfCards);
         }
-
         return selectedPlayers;
     }
 
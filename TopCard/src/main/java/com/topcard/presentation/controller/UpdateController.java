@@ -30,6 +30,8 @@ public class UpdateController {
     private final boolean isAdmin;
     private final String username;
     private final JDesktopPane desktopPane;
+    // The encrypted password shown in the password field, so that an unchanged field is not saved as a new password
+    private String loadedPassword = "";
 
     /**
      * Constructor to initialize the update controller with the given update view and admin status.
@@ -104,6 +106,7 @@ public class UpdateController {
             updateView.getLastNameField().setText(player.getLastName());
             updateView.getUsernameField().setText(player.getUsername());
             updateView.getPasswordField().setText(player.getPassword());
+            loadedPassword = player.getPassword();
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Constants.DATE_FORMAT);
             updateView.getDateOfBirthField().setText(player.getDateOfBirth().format(formatter));
             updateView.getPointsField().setText(String.valueOf(player.getPoints()));
@@ -115,6 +118,7 @@ public class UpdateController {
             updateView.getLastNameField().setText("");
             updateView.getUsernameField().setText("");
             updateView.getPasswordField().setText("");
+            loadedPassword = "";
             updateView.getDateOfBirthField().setText("");
             updateView.getPointsField().setText("");
             updateView.getIsAdminCheckBox().setSelected(false);
@@ -152,10 +156,17 @@ public class UpdateController {
             // Update player information
             Player updatedPlayer = new Player(
                     updateView.getUsernameField().getText(),
-                    new String(updateView.getPasswordField().getPassword()),
+                    loadedPassword,
                     updateView.getFirstNameField().getText(),
                     updateView.getLastNameField().getText(),
                     dateOfBirth);
+            updatedPlayer.setPlayerId(Integer.parseInt(updateView.getIdField().getText()));
+
+            // Only a newly typed password is encrypted again
+            String password = new String(updateView.getPasswordField().getPassword());
+            if (!password.isEmpty() && !password.equals(loadedPassword)) {
+                updatedPlayer.changePassword(password);
+            }
 
             try {
                 int points = Integer.parseInt(updateView.getPointsField().getText().trim());
@@ -166,7 +177,6 @@ public class UpdateController {
             }
 
             if (isAdmin) {
-                updatedPlayer.setPlayerId(Integer.parseInt(updateView.getIdField().getText()));
                 updatedPlayer.setAdmin(updateView.getIsAdminCheckBox().isSelected());
             }
 
@@ -4,6 +4,7 @@ import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JPasswordField;
+import javax.swing.JProgressBar;
 import javax.swing.JTextField;
 import java.awt.Cursor;
 import java.awt.Font;
@@ -29,6 +30,7 @@ public class LoginView {
     private JPasswordField passwordField;
     private JLabel messageLabel;
     private JButton loginButton;
+    private JProgressBar progressBar;
     private JLabel signUpLabel;
 
     /**
@@ -80,9 +82,17 @@ public class LoginView {
         gbc.anchor = GridBagConstraints.CENTER;
         loginPanel.add(loginButton, gbc);
 
-        messageLabel = new JLabel("");
+        // Shown while the password is being verified
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(false);
         gbc.gridx = 1;
         gbc.gridy = 4;
+        loginPanel.add(progressBar, gbc);
+
+        messageLabel = new JLabel("");
+        gbc.gridx = 1;
+        gbc.gridy = 5;
         loginPanel.add(messageLabel, gbc);
 
         // Inline Sign-Up Link
@@ -90,7 +100,7 @@ public class LoginView {
         signUpLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
         signUpLabel.setForeground(Color.BLUE);
         gbc.gridx = 1;
-        gbc.gridy = 5;
+        gbc.gridy = 6;
         gbc.anchor = GridBagConstraints.WEST;
         loginPanel.add(signUpLabel, gbc);
     }
@@ -116,6 +126,10 @@ public class LoginView {
         return loginButton;
     }
 
+    public JProgressBar getProgressBar() {
+        return progressBar;
+    }
+
     public JLabel getSignUpLabel() {
         return signUpLabel;
     }
@@ -52,8 +52,7 @@ public class CardService implements ICardService {
      */
     @Override
     public int getCardsValue(Card[] cards) {
-        // Card object has the function.
-        return cards[0].getCardsValue(cards);
+        return Card.valueOf(cards);
     }
 
     @Override
@@ -1,46 +1,228 @@
 package com.topcard.service.factory;
 
-import com.topcard.domain.Player;
+import com.topcard.config.TopCardConfig;
 import com.topcard.exceptions.TopCardException;
 import com.topcard.marker.TopCardMarker;
+import com.topcard.service.card.CardService;
 import com.topcard.service.game.GameService;
+import com.topcard.service.player.IPlayerService;
+import com.topcard.service.player.IndexedPlayerService;
+import com.topcard.service.player.MappedPlayerService;
+import com.topcard.service.player.PlayerService;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
  * ServiceFactory is a factory class responsible for creating service instances
  * for the TopCard game. This class implements the TopCardMarker interface.
  * <p>
+ * Services are kept in a registry, each with the function that creates it and its scope: a
+ * {@link Scope#SINGLETON} service is created once and shared by every caller, a
+ * {@link Scope#PROTOTYPE} service is created anew for every call. Stateless services, such as the
+ * player services, are singletons; services that hold a deck or a table, such as CardService and
+ * GameService, are prototypes. A class that is not registered is created through its public
+ * constructor, looked up once and then called through a cached method handle.
+ * </p>
+ * <p>
  *  Author: Rajesh Rajchal
  *  Date: 11/21/2024
  */
 public class ServiceFactory implements TopCardMarker {
 
+    /**
+     * PLAYER_STORE setting that selects the IndexedPlayerService.
+     */
+    public static final String INDEXED_PLAYER_STORE = "indexed";
+
+    /**
+     * PLAYER_STORE setting that selects the MappedPlayerService.
+     */
+    public static final String BINARY_PLAYER_STORE = "binary";
+
+    /**
+     * How many instances of a registered service are created.
+     */
+    public enum Scope {
+        /**
+         * One instance, created on first use and shared by all callers.
+         */
+        SINGLETON,
+        /**
+         * A new instance for every call.
+         */
+        PROTOTYPE
+    }
+
+    private static final Map<Class<?>, Registration<?>> REGISTRY = new ConcurrentHashMap<>();
+
+    static {
+        // The indexed and binary stores keep players in memory, so all callers must share one instance.
+        register(IPlayerService.class, Scope.SINGLETON, () -> createPlayerService(TopCardConfig.getDefault()));
+        register(PlayerService.class, Scope.SINGLETON, () -> new PlayerService(TopCardConfig.getDefault()));
+        register(CardService.class, Scope.PROTOTYPE, CardService::new);
+        register(GameService.class, args -> new GameService(playersOf(args)));
+    }
+
     /**
      * Creates an instance of the specified service class. If a list of players is provided,
      * it creates an instance of GameService. Otherwise, it creates an instance of PlayerService
      * or CardService.
+     * <p>
+     * Asking for IPlayerService returns the player store configured by PLAYER_STORE
+     * in the application configuration, {@link TopCardConfig#getDefault()}.
+     * </p>
      *
      * @param serviceClass the class of the service to create
      * @param args         the optional arguments (e.g., list of players for GameService)
      * @param <T>          the type of the service to create
-     * @return a new instance of the specified service
+     * @return the shared instance of a singleton service, or a new instance of any other service
      */
     public static <T> T createService(Class<T> serviceClass, Object... args) {
-        try {
-            if (args == null || args.length == 0) {
-                // Create an instance of PlayerService or CardService
-                return serviceClass.getDeclaredConstructor().newInstance();
-            } else {
-                // Create an instance of GameService with players
-                return serviceClass.getDeclaredConstructor(List.class).newInstance(args);
+        Registration<?> registration = REGISTRY.get(serviceClass);
+        if (registration == null) {
+            registration = REGISTRY.computeIfAbsent(serviceClass,
+                    unregistered -> new Registration<>(Scope.PROTOTYPE, new ConstructorFactory(unregistered)));
+        }
+        return serviceClass.cast(registration.get(args == null ? new Object[0] : args));
+    }
+
+    /**
+     * Registers how a service without arguments is created, replacing any previous registration.
+     *
+     * @param serviceClass the class callers ask for
+     * @param scope        whether the service is shared or created for every call
+     * @param supplier     creates the service
+     * @param <T>          the type of the service
+     */
+    public static <T> void register(Class<T> serviceClass, Scope scope, Supplier<? extends T> supplier) {
+        REGISTRY.put(serviceClass, new Registration<>(scope, args -> supplier.get()));
+    }
+
+    /**
+     * Registers how a service is created from the arguments of {@link #createService(Class, Object...)},
+     * replacing any previous registration. Such services are prototypes.
+     *
+     * @param serviceClass the class callers ask for
+     * @param factory      creates the service from the arguments
+     * @param <T>          the type of the service
+     */
+    public static <T> void register(Class<T> serviceClass, Function<Object[], ? extends T> factory) {
+        REGISTRY.put(serviceClass, new Registration<>(Scope.PROTOTYPE, factory));
+    }
+
+    /**
+     * Creates a new player service of the store selected by PLAYER_STORE, over the files of the
+     * given configuration. The CSV store is used unless "indexed" or "binary" is configured.
+     * <p>
+     * The service is not shared: each configuration, for example of a test fixture with files of
+     * its own, gets a store of its own next to the shared IPlayerService.
+     * </p>
+     *
+     * @param config the configuration of the store
+     * @return the configured player service
+     */
+    public static IPlayerService createPlayerService(TopCardConfig config) {
+        String playerStore = config.getPlayerStore();
+        if (INDEXED_PLAYER_STORE.equalsIgnoreCase(playerStore)) {
+            return new IndexedPlayerService(config);
+        }
+        if (BINARY_PLAYER_STORE.equalsIgnoreCase(playerStore)) {
+            return new MappedPlayerService(config);
+        }
+        return new PlayerService(config);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> playersOf(Object[] args) {
+        if (args.length != 1 || !(args[0] instanceof List)) {
+            throw new TopCardException("GameService needs the list of players");
+        }
+        return (List<T>) args[0];
+    }
+
+    /**
+     * A registered service: its scope, the function that creates it and, for a singleton, the instance.
+     */
+    private static final class Registration<T> {
+        private final Scope scope;
+        private final Function<Object[], ? extends T> factory;
+        private volatile T instance;
+
+        Registration(Scope scope, Function<Object[], ? extends T> factory) {
+            this.scope = scope;
+            this.factory = factory;
+        }
+
+        T get(Object[] args) {
+            if (scope == Scope.PROTOTYPE) {
+                return factory.apply(args);
             }
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            throw new TopCardException(e);
+            T service = instance;
+            if (service == null) {
+                synchronized (this) {
+                    service = instance;
+                    if (service == null) {
+                        service = factory.apply(args);
+                        instance = service;
+                    }
+                }
+            }
+            return service;
         }
     }
-}
 
+    /**
+     * Creates an unregistered service through its public constructor taking no argument, or taking
+     * the list of players when arguments are given. Each constructor is looked up once.
+     */
+    private static final class ConstructorFactory implements Function<Object[], Object> {
+        private final Class<?> serviceClass;
+        private volatile MethodHandle noArgsConstructor;
+        private volatile MethodHandle listConstructor;
+
+        ConstructorFactory(Class<?> serviceClass) {
+            this.serviceClass = serviceClass;
+        }
+
+        @Override
+        public Object apply(Object[] args) {
+            try {
+                if (args.length == 0) {
+                    MethodHandle constructor = noArgsConstructor;
+                    if (constructor == null) {
+                        constructor = findConstructor(MethodType.methodType(void.class));
+                        noArgsConstructor = constructor;
+                    }
+                    return constructor.invoke();
+                }
+                MethodHandle constructor = listConstructor;
+                if (constructor == null) {
+                    constructor = findConstructor(MethodType.methodType(void.class, List.class));
+                    listConstructor = constructor;
+                }
+                return constructor.invoke(args[0]);
+            } catch (TopCardException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new TopCardException(e);
+            }
+        }
+
+        private MethodHandle findConstructor(MethodType type) {
+            try {
+                return MethodHandles.publicLookup().findConstructor(serviceClass, type)
+                        .asType(type.changeReturnType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new TopCardException(e);
+            }
+        }
+    }
+}
@@ -3,17 +3,23 @@ package com.topcard.service.game;
 import com.topcard.domain.Card;
 import com.topcard.domain.Game;
 import com.topcard.domain.Player;
-import com.topcard.service.player.PlayerService;
+import com.topcard.domain.Settlement;
+import com.topcard.service.factory.ServiceFactory;
+import com.topcard.service.player.IPlayerService;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class GameService implements IGameService {
     private final Game game;
-    private final PlayerService playerService;
+    private final IPlayerService playerService;
     private final List<Player> players;
 
     public GameService(List<Player> players) {
-        this.playerService = new PlayerService();
+        this.playerService = ServiceFactory.createService(IPlayerService.class);
         this.players = players;
         addPlayers(players);
         List<Player> updatedPlayers = updateExistingPlayers(players);
@@ -42,11 +48,28 @@ public class GameService implements IGameService {
 
     @Override
     public List<Player> executeBettingRound(int points) {
-        List<Player> updatedPlayers = game.betAndUpdatePlayerPoints(points, game.getPlayers());
-        updatePoints(updatedPlayers);
+        storeSettlement(settleBets(points));
+        List<Player> players = game.getPlayers();
+        if (players == null || players.isEmpty()) {
+            return players;
+        }
+        // The rest of the players, followed by the main player, like Game.betAndUpdatePlayerPoints
+        List<Player> updatedPlayers = new ArrayList<>(players.size());
+        updatedPlayers.addAll(players.subList(1, players.size()));
+        updatedPlayers.add(players.get(0));
         return updatedPlayers;
     }
 
+    @Override
+    public Settlement settleBets(int points) {
+        return game.settleBets(points);
+    }
+
+    @Override
+    public void storeSettlement(Settlement settlement) {
+        playerService.applyPointDeltas(settlement.getPointDeltas());
+    }
+
     @Override
     public List<Player> determineWinner() {
         return game.determineWinner();
@@ -65,15 +88,23 @@ public class GameService implements IGameService {
     }
 
     @Override
+    @Deprecated
     public void updatePoints(Player player) {
-        playerService.changePoints(player.getPlayerId(), player.getPoints());
+        updatePoints(Collections.singletonList(player));
     }
 
     @Override
+    @Deprecated
     public void updatePoints(List<Player> players) {
+        // Turn the points into changes from the stored points, so they are written in one update
+        Map<Integer, Integer> pointDeltas = new HashMap<>();
         for (Player player : players) {
-            updatePoints(player);
+            Player storedPlayer = playerService.getPlayerById(player.getPlayerId());
+            if (storedPlayer != null && storedPlayer.getPoints() != player.getPoints()) {
+                pointDeltas.put(player.getPlayerId(), player.getPoints() - storedPlayer.getPoints());
+            }
         }
+        playerService.applyPointDeltas(pointDeltas);
     }
 
     @Override
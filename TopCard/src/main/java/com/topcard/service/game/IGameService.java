@@ -2,6 +2,7 @@ package com.topcard.service.game;
 
 import com.topcard.domain.Card;
 import com.topcard.domain.Player;
+import com.topcard.domain.Settlement;
 import java.util.List;
 
 /**
@@ -44,10 +45,27 @@ public interface IGameService {
      * and the points are updated based on the hand values of all players.
      *
      * @param points the amount of points each player bets
-     * @return the list of players with updated points
+     * @return the list of players with updated points: the other players, followed by the main player
      */
     List<Player> executeBettingRound(int points);
 
+    /**
+     * Executes a betting round like {@link #executeBettingRound(int)}, updating the points of the
+     * players in memory only. The round is stored by {@link #storeSettlement(Settlement)}, so the
+     * caller may show the round before the player data is written.
+     *
+     * @param points the amount of points each player bets
+     * @return the settlement of the round
+     */
+    Settlement settleBets(int points);
+
+    /**
+     * Stores the points won or lost in a betting round with a single update of the player data.
+     *
+     * @param settlement the settlement returned by {@link #settleBets(int)}
+     */
+    void storeSettlement(Settlement settlement);
+
     /**
      * Determines the winner(s) among the players based on hand value and card rankings.
      *
@@ -73,13 +91,19 @@ public interface IGameService {
      * Updates just player's points
      *
      * @param player whose point needs to be updated
+     * @deprecated store a betting round with {@link #storeSettlement(Settlement)}, which adds the
+     * points won or lost instead of overwriting the stored points
      */
+    @Deprecated
     void updatePoints(Player player);
 
     /**
-     * Update points of all players
+     * Update points of all players, with a single update of the player data
      * @param players list of players whose points need to be updated
+     * @deprecated store a betting round with {@link #storeSettlement(Settlement)}, which adds the
+     * points won or lost instead of overwriting the stored points
      */
+    @Deprecated
     void updatePoints(List<Player> players);
 
     /**
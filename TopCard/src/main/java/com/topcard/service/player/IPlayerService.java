@@ -2,7 +2,10 @@ package com.topcard.service.player;
 
 import com.topcard.domain.Player;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * The IPlayerService interface defines the contract for player-related operations in the TopCard game.
@@ -31,6 +34,17 @@ public interface IPlayerService {
      */
     void addPlayers(List<Player> players);
 
+    /**
+     * Imports a stream of new players. Players whose username is already taken, in the system or
+     * earlier in the stream, are skipped. Passwords are encrypted in parallel and the players are
+     * stored in chunks, each with a single write.
+     *
+     * @param players  the players to import
+     * @param progress receives a report after every stored chunk and at the end, may be null
+     * @return the final import report
+     */
+    PlayerImportReport importPlayers(Iterator<Player> players, Consumer<PlayerImportReport> progress);
+
     /**
      * Removes a player from the system.
      *
@@ -63,6 +77,15 @@ public interface IPlayerService {
      */
     void changePoints(int playerId, int points);
 
+    /**
+     * Adds a points change to each of several players in a single update of the data.
+     * Either every change is stored or none is, which makes it suitable for settling a betting round.
+     * IDs that do not belong to a player are ignored.
+     *
+     * @param pointDeltas the points to add (negative to deduct), keyed by player ID
+     */
+    void applyPointDeltas(Map<Integer, Integer> pointDeltas);
+
     /**
      * Checks if a player is an admin.
      *
@@ -79,12 +102,21 @@ public interface IPlayerService {
     void makePlayerAdmin(int playerId);
 
     /**
-     * Updates a player's profile.
+     * Updates a player's profile. The stored encrypted password is kept unless the password was
+     * changed with {@link Player#changePassword(String)}, so other updates never run BCrypt.
      *
      * @param player the player with updated information
      */
     void updateProfile(Player player);
 
+    /**
+     * Changes a player's password. This is the only update that encrypts a password.
+     *
+     * @param playerId    the ID of the player
+     * @param newPassword the new plain text password
+     */
+    void changePassword(int playerId, String newPassword);
+
     /**
      * Updates a player's profile by their ID.
      *
@@ -102,6 +134,15 @@ public interface IPlayerService {
      */
     void updateProfiles(List<Player> players);
 
+    /**
+     * Verifies a plain text password against an encrypted password.
+     *
+     * @param plainPassword the plain text password
+     * @param encryptedPassword the encrypted password
+     * @return true if the password matches, false otherwise
+     */
+    boolean verifyPassword(String plainPassword, String encryptedPassword);
+
     /**
      * Retrieves point from the data file for a give player id
      *
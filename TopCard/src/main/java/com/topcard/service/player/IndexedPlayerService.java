@@ -0,0 +1,464 @@
+package com.topcard.service.player;
+
+import com.topcard.config.TopCardConfig;
+import com.topcard.debug.Debug;
+import com.topcard.domain.Player;
+import com.topcard.exceptions.TopCardException;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * The IndexedPlayerService class is an IPlayerService that loads the player data file once
+ * and keeps it in memory, indexed by player ID and by username.
+ * <p>
+ * Reads are answered from the indexes without touching the file. Every change is appended
+ * to a {@link PlayerJournal} next to the data file, instead of rewriting the whole file, and
+ * applied to the indexes only once it is journaled, so a failed write leaves the indexes as
+ * they are on disk. Once the journal holds enough records, a background compaction
+ * folds it back into the data file. On start-up the data file is loaded and the journal is
+ * replayed on top of it, so no acknowledged change is lost if the application stops abruptly.
+ * </p>
+ * <p>
+ * Players handed out by this service are copies, so callers may change them freely
+ * without affecting the indexes until they call an update method.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public class IndexedPlayerService implements IPlayerService {
+
+    /**
+     * Number of journal records after which a compaction is scheduled.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private final Path dataFilePath;
+    private final PlayerJournal journal;
+    private final PlayerIdSequence idSequence;
+    private final int compactionThreshold;
+    private final Map<Integer, Player> playersById = new LinkedHashMap<>();
+    private final Map<String, Player> playersByUsername = new HashMap<>();
+    private final Object compactionLock = new Object();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "player-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean compactionScheduled;
+
+    /**
+     * Constructs an IndexedPlayerService over the data file of the application configuration.
+     */
+    public IndexedPlayerService() {
+        this(TopCardConfig.getDefault());
+    }
+
+    /**
+     * Constructs an IndexedPlayerService over the data file configured by FILE_PATH.
+     *
+     * @param config the configuration
+     */
+    public IndexedPlayerService(TopCardConfig config) {
+        this(config.getDataFilePath());
+    }
+
+    /**
+     * Constructs an IndexedPlayerService over the given data file.
+     *
+     * @param dataFilePath the player data file to load and persist to
+     */
+    public IndexedPlayerService(Path dataFilePath) {
+        this(dataFilePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs an IndexedPlayerService over the given data file.
+     *
+     * @param dataFilePath        the player data file to load and persist to
+     * @param compactionThreshold the number of journal records that triggers a compaction
+     */
+    public IndexedPlayerService(Path dataFilePath, int compactionThreshold) {
+        this.dataFilePath = dataFilePath;
+        this.journal = new PlayerJournal(dataFilePath);
+        this.compactionThreshold = compactionThreshold;
+        load();
+        this.idSequence = new PlayerIdSequence(dataFilePath, highestId());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The password is encrypted before the lock of this service is taken, so lookups go on while
+     * BCrypt runs; the username is checked again under the lock.
+     * </p>
+     */
+    @Override
+    public boolean addPlayer(Player player) {
+        String username = player.getUsername().toLowerCase();
+        if (hasUsername(username)) {
+            Debug.warn("Player already exists. No player added.");
+            return false;
+        }
+        String encryptedPassword = encryptPassword(player.getPassword()); // Encrypt the password
+        synchronized (this) {
+            if (playersByUsername.containsKey(username)) {
+                Debug.warn("Player already exists. No player added.");
+                return false;
+            }
+            player.setPlayerId(getNewId());
+            player.setUsername(username);
+            player.setPassword(encryptedPassword);
+            Player added = copyOf(player);
+            persist(added);
+            index(added);
+        }
+        Debug.info("Player added: " + player);
+        return true;
+    }
+
+    @Override
+    public void addPlayers(List<Player> players) {
+        importPlayers(players.iterator(), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Passwords are encrypted without holding the lock of this service, so lookups and other changes
+     * go on during a bulk import. The lock is only taken to check usernames and to journal and index
+     * each chunk; a player whose username was added meanwhile by another caller is skipped.
+     * </p>
+     */
+    @Override
+    public PlayerImportReport importPlayers(Iterator<Player> players, Consumer<PlayerImportReport> progress) {
+        return PlayerImporter.run(players, new PlayerImporter.Store() {
+            @Override
+            public boolean contains(String username) {
+                return hasUsername(username);
+            }
+
+            @Override
+            public int nextId() {
+                return getNewId();
+            }
+
+            @Override
+            public int write(List<Player> chunk) {
+                synchronized (IndexedPlayerService.this) {
+                    List<Player> added = new ArrayList<>(chunk.size());
+                    for (Player player : chunk) {
+                        if (!playersByUsername.containsKey(player.getUsername())) {
+                            added.add(copyOf(player));
+                        }
+                    }
+                    journal.appendUpserts(added);
+                    added.forEach(IndexedPlayerService.this::index);
+                    scheduleCompactionIfNeeded();
+                    return added.size();
+                }
+            }
+        }, progress);
+    }
+
+    @Override
+    public synchronized void removePlayer(int playerId) {
+        Player removed = playersById.remove(playerId);
+        if (removed != null) {
+            playersByUsername.remove(removed.getUsername());
+            journal.appendDelete(playerId);
+            scheduleCompactionIfNeeded();
+        }
+    }
+
+    @Override
+    public synchronized Player getPlayerById(int playerId) {
+        return copyOf(playersById.get(playerId));
+    }
+
+    @Override
+    public synchronized Player getPlayerByUsername(String userName) {
+        return copyOf(playersByUsername.get(userName));
+    }
+
+    @Override
+    public synchronized void changePoints(int playerId, int points) {
+        Player player = copyOf(playersById.get(playerId));
+        if (player != null) {
+            player.setPoints(points);
+            persist(player);
+            index(player);
+            Debug.info("Player's points updated: " + player);
+        }
+    }
+
+    @Override
+    public synchronized void applyPointDeltas(Map<Integer, Integer> pointDeltas) {
+        List<Player> changed = new ArrayList<>(pointDeltas.size());
+        for (Map.Entry<Integer, Integer> delta : pointDeltas.entrySet()) {
+            Player player = copyOf(playersById.get(delta.getKey()));
+            if (player != null) {
+                player.changePoints(delta.getValue());
+                changed.add(player);
+            }
+        }
+        // Journal the whole batch before touching the indexes, so a failed write changes nothing.
+        journal.appendUpserts(changed);
+        changed.forEach(this::index);
+        scheduleCompactionIfNeeded();
+        Debug.info("Points changed for " + changed.size() + " players: " + pointDeltas);
+    }
+
+    @Override
+    public synchronized boolean isPlayerAdmin(int playerId) {
+        Player player = playersById.get(playerId);
+        return player != null && player.isAdmin();
+    }
+
+    @Override
+    public synchronized void makePlayerAdmin(int playerId) {
+        Player player = copyOf(playersById.get(playerId));
+        if (player != null) {
+            player.setAdmin(true);
+            persist(player);
+            index(player);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A new password is encrypted before the lock of this service is taken.
+     * </p>
+     */
+    @Override
+    public void updateProfile(Player player) {
+        // Encrypt only a newly given password; any other update keeps the stored one without running BCrypt
+        String newPassword = player.isPasswordChanged() ? encryptPassword(player.getPassword()) : null;
+        synchronized (this) {
+            Player existing = playersById.get(player.getPlayerId());
+            if (existing == null) {
+                return;
+            }
+            player.setPassword(newPassword != null ? newPassword : existing.getPassword());
+            player.clearPasswordChanged();
+            Player updated = copyOf(player);
+            persist(updated);
+            playersByUsername.remove(existing.getUsername());
+            index(updated);
+        }
+        Debug.info("Player updated: " + player);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The new password is encrypted before the lock of this service is taken.
+     * </p>
+     */
+    @Override
+    public void changePassword(int playerId, String newPassword) {
+        String encryptedPassword = encryptPassword(newPassword);
+        synchronized (this) {
+            Player player = copyOf(playersById.get(playerId));
+            if (player != null) {
+                player.setPassword(encryptedPassword);
+                persist(player);
+                index(player);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void updateProfile(int playerId, String newFirstName, String newLastName, LocalDate newDateOfBirth) {
+        Player player = getPlayerById(playerId);
+        if (player != null) {
+            player.setFirstName(newFirstName);
+            player.setLastName(newLastName);
+            player.setDateOfBirth(newDateOfBirth);
+            updateProfile(player);
+        }
+    }
+
+    @Override
+    public void updateProfiles(List<Player> players) {
+        players.forEach(this::updateProfile);
+    }
+
+    @Override
+    public boolean verifyPassword(String plainPassword, String encryptedPassword) {
+        return BCrypt.checkpw(plainPassword, encryptedPassword);
+    }
+
+    @Override
+    public synchronized int retrievePointForPlayer(int playerId) {
+        Player player = playersById.get(playerId);
+        if (player != null) {
+            return player.getPoints();
+        }
+        throw new TopCardException("Player not found with ID: " + playerId);
+    }
+
+    @Override
+    public synchronized List<Player> getAllPlayers() {
+        List<Player> players = new ArrayList<>(playersById.size());
+        for (Player player : playersById.values()) {
+            players.add(copyOf(player));
+        }
+        return players;
+    }
+
+    /**
+     * Folds the journal into the data file now, on the calling thread.
+     * New changes may be journaled while the data file is being written.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            List<String> lines;
+            synchronized (this) {
+                compactionScheduled = false;
+                lines = snapshotLines();
+                journal.rotate();
+            }
+            journal.writeSnapshot(lines);
+            Debug.info("Player journal compacted into " + dataFilePath);
+        }
+    }
+
+    /**
+     * Loads every player from the data file and replays the journal on top of it.
+     * If the journal held any records, they are folded into the data file right away.
+     */
+    private void load() {
+        for (String line : PlayerCsv.readLines(dataFilePath)) {
+            if (!line.isEmpty()) {
+                Player player = PlayerCsv.toPlayer(line);
+                playersById.put(player.getPlayerId(), player);
+            }
+        }
+        int replayed = journal.replay(playersById);
+        for (Player player : playersById.values()) {
+            playersByUsername.put(player.getUsername(), player);
+        }
+        if (replayed > 0) {
+            journal.fold(snapshotLines());
+        }
+        Debug.info("Indexed " + playersById.size() + " players from " + dataFilePath
+                + " (" + replayed + " journal records replayed)");
+    }
+
+    /**
+     * Journals the new state of a player. Callers index the player only after this returns.
+     *
+     * @param player the changed copy of the player
+     */
+    private void persist(Player player) {
+        journal.appendUpsert(player);
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * Schedules a background compaction once the journal reaches the threshold.
+     */
+    private void scheduleCompactionIfNeeded() {
+        if (!compactionScheduled && journal.size() >= compactionThreshold) {
+            compactionScheduled = true;
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Returns the CSV rows of every indexed player.
+     *
+     * @return the CSV rows
+     */
+    private List<String> snapshotLines() {
+        List<String> lines = new ArrayList<>(playersById.size());
+        for (Player player : playersById.values()) {
+            lines.add(PlayerCsv.toCsv(player));
+        }
+        return lines;
+    }
+
+    /**
+     * Adds or replaces a player in both indexes.
+     *
+     * @param player the player to index
+     */
+    private void index(Player player) {
+        playersById.put(player.getPlayerId(), player);
+        playersByUsername.put(player.getUsername(), player);
+    }
+
+    /**
+     * Generates a new unique ID from the ID sequence of the data file.
+     *
+     * @return a new unique ID
+     */
+    private int getNewId() {
+        return idSequence.next();
+    }
+
+    /**
+     * Returns the highest indexed ID, used to recover the ID sequence.
+     *
+     * @return the highest ID, or 0 if there are no players
+     */
+    private int highestId() {
+        int maxId = 0;
+        for (int id : playersById.keySet()) {
+            maxId = Math.max(maxId, id);
+        }
+        return maxId;
+    }
+
+    /**
+     * Checks whether a username is taken.
+     *
+     * @param username the lower-case username
+     * @return true if a player has the username
+     */
+    private synchronized boolean hasUsername(String username) {
+        return playersByUsername.containsKey(username);
+    }
+
+    /**
+     * Encrypts a password using BCrypt.
+     *
+     * @param password the plain text password
+     * @return the encrypted password
+     */
+    private String encryptPassword(String password) {
+        return BCrypt.hashpw(password, BCrypt.gensalt());
+    }
+
+    /**
+     * Copies the stored fields of a player, so the indexed instance is never shared.
+     *
+     * @param player the player to copy, may be null
+     * @return the copy, or null if the player is null
+     */
+    private Player copyOf(Player player) {
+        if (player == null) {
+            return null;
+        }
+        Player copy = new Player(player.getUsername(), player.getPassword(), player.getFirstName(),
+                player.getLastName(), player.getDateOfBirth());
+        copy.setPlayerId(player.getPlayerId());
+        copy.setPoints(player.getPoints());
+        copy.setAdmin(player.isAdmin());
+        return copy;
+    }
+}
@@ -0,0 +1,567 @@
+package com.topcard.service.player;
+
+import com.topcard.config.TopCardConfig;
+import com.topcard.debug.Debug;
+import com.topcard.domain.Player;
+import com.topcard.exceptions.TopCardException;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The MappedPlayerService class is an IPlayerService that keeps players as fixed-width binary
+ * records in a memory-mapped file.
+ * <p>
+ * The record of a player lives at HEADER_SIZE + (playerId - 1) * RECORD_SIZE, so looking up a player
+ * by ID, reading its points and changing its points are positioned reads and writes in the mapped
+ * file, without any parsing. A username index is built once when the file is opened.
+ * </p>
+ * <p>
+ * Record layout (RECORD_SIZE bytes, big-endian):
+ * <pre>
+ *   0  status        byte   1 = in use, 0 = free slot
+ *   1  isAdmin       byte
+ *   4  playerId      int
+ *   8  points        int
+ *  12  dateOfBirth   long   epoch day
+ *  20  username      1 length byte + 31 bytes UTF-8
+ *  52  password      1 length byte + 63 bytes UTF-8
+ * 116  firstName     1 length byte + 31 bytes UTF-8
+ * 148  lastName      1 length byte + 31 bytes UTF-8
+ * </pre>
+ * The header holds the magic number, the version, the record size and, at offset 12, the highest
+ * player ID ever assigned, so the ID of a removed player is not handed out again after a restart.
+ * A record is marked in use only after all its fields are written, so a record that cannot be
+ * written never shows up as a player.
+ * </p>
+ * <p>
+ * If the binary file does not exist yet, it is created once from the players.csv data file. The
+ * conversion writes a temporary file that is moved into place only once every player is copied.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public class MappedPlayerService implements IPlayerService {
+
+    static final int MAGIC = 0x54435042; // "TCPB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 180;
+
+    private static final int HIGHEST_ID = 12;
+
+    private static final int STATUS = 0;
+    private static final int ADMIN = 1;
+    private static final int PLAYER_ID = 4;
+    private static final int POINTS = 8;
+    private static final int DATE_OF_BIRTH = 12;
+    private static final int USERNAME = 20;
+    private static final int PASSWORD = 52;
+    private static final int FIRST_NAME = 116;
+    private static final int LAST_NAME = 148;
+    private static final int NAME_WIDTH = 32;
+    private static final int PASSWORD_WIDTH = 64;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Path binaryFilePath;
+    private FileChannel channel;
+    private final Map<String, Integer> idsByUsername = new HashMap<>();
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int maxId;
+
+    /**
+     * Constructs a MappedPlayerService over the files of the application configuration.
+     */
+    public MappedPlayerService() {
+        this(TopCardConfig.getDefault());
+    }
+
+    /**
+     * Constructs a MappedPlayerService over the files configured by BINARY_FILE_PATH and FILE_PATH.
+     *
+     * @param config the configuration
+     */
+    public MappedPlayerService(TopCardConfig config) {
+        this(config.getBinaryFilePath(), config.getDataFilePath());
+    }
+
+    /**
+     * Constructs a MappedPlayerService over the given binary file. If the binary file does not
+     * exist, it is created from the given CSV data file, or empty if there is none.
+     *
+     * @param binaryFilePath the binary player file
+     * @param csvFilePath    the players.csv file to convert from on first use, may be null
+     */
+    public MappedPlayerService(Path binaryFilePath, Path csvFilePath) {
+        this.binaryFilePath = binaryFilePath;
+        try {
+            if (binaryFilePath.getParent() != null) {
+                Files.createDirectories(binaryFilePath.getParent());
+            }
+            if (Files.notExists(binaryFilePath) && csvFilePath != null && Files.exists(csvFilePath)) {
+                convertCsv(binaryFilePath, csvFilePath);
+            }
+            boolean exists = Files.exists(binaryFilePath);
+            channel = FileChannel.open(binaryFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (exists) {
+                open();
+            } else {
+                create();
+            }
+        } catch (IOException e) {
+            throw new TopCardException("Cannot open binary player file. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a binary file from a players.csv file. The players are copied into a temporary file
+     * next to the binary file, which is moved into place only after the whole conversion succeeded,
+     * so a failed conversion never leaves a binary file with part of the players.
+     *
+     * @param binaryFilePath the binary player file to create
+     * @param csvFilePath    the players.csv file to convert
+     * @throws IOException if the temporary file cannot be closed or moved
+     */
+    private static void convertCsv(Path binaryFilePath, Path csvFilePath) throws IOException {
+        Path tempFilePath = binaryFilePath.resolveSibling(binaryFilePath.getFileName() + ".tmp");
+        Files.deleteIfExists(tempFilePath); // left over from a conversion that did not finish
+        try {
+            MappedPlayerService converter = new MappedPlayerService(tempFilePath, null);
+            int converted = converter.importCsv(csvFilePath);
+            converter.channel.close();
+            Files.move(tempFilePath, binaryFilePath, StandardCopyOption.ATOMIC_MOVE);
+            Debug.info("Converted " + converted + " players from " + csvFilePath + " to " + binaryFilePath);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    /**
+     * Copies every player of a players.csv file into this store, keeping IDs and encrypted passwords.
+     *
+     * @param csvFilePath the players.csv file
+     * @return the number of players copied
+     */
+    public synchronized int importCsv(Path csvFilePath) {
+        int count = 0;
+        for (String line : PlayerCsv.readLines(csvFilePath)) {
+            if (!line.isEmpty()) {
+                writeRecord(PlayerCsv.toPlayer(line));
+                count++;
+            }
+        }
+        buffer.force();
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The password is encrypted before the lock of this service is taken, so lookups go on while
+     * BCrypt runs; the username is checked again under the lock.
+     * </p>
+     */
+    @Override
+    public boolean addPlayer(Player player) {
+        String username = player.getUsername().toLowerCase();
+        if (hasUsername(username)) {
+            Debug.warn("Player already exists. No player added.");
+            return false;
+        }
+        String encryptedPassword = encryptPassword(player.getPassword()); // Encrypt the password
+        synchronized (this) {
+            if (idsByUsername.containsKey(username)) {
+                Debug.warn("Player already exists. No player added.");
+                return false;
+            }
+            player.setPlayerId(maxId + 1);
+            player.setUsername(username);
+            player.setPassword(encryptedPassword);
+            writeRecord(player);
+            force(player.getPlayerId());
+            buffer.force(0, HEADER_SIZE);
+        }
+        Debug.info("Player added: " + player);
+        return true;
+    }
+
+    @Override
+    public void addPlayers(List<Player> players) {
+        importPlayers(players.iterator(), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Passwords are encrypted without holding the lock of this service. The lock is only taken to
+     * check usernames, to reserve IDs and to write each chunk; a player whose username was added
+     * meanwhile by another caller is skipped, and its reserved ID is left unused.
+     * </p>
+     */
+    @Override
+    public PlayerImportReport importPlayers(Iterator<Player> players, Consumer<PlayerImportReport> progress) {
+        return PlayerImporter.run(players, new PlayerImporter.Store() {
+            @Override
+            public boolean contains(String username) {
+                return hasUsername(username);
+            }
+
+            @Override
+            public int nextId() {
+                synchronized (MappedPlayerService.this) {
+                    return ++maxId;
+                }
+            }
+
+            @Override
+            public int write(List<Player> chunk) {
+                synchronized (MappedPlayerService.this) {
+                    int written = 0;
+                    for (Player player : chunk) {
+                        if (!idsByUsername.containsKey(player.getUsername())) {
+                            writeRecord(player);
+                            written++;
+                        }
+                    }
+                    buffer.force();
+                    return written;
+                }
+            }
+        }, progress);
+    }
+
+    @Override
+    public synchronized void removePlayer(int playerId) {
+        int offset = offsetOf(playerId);
+        if (offset >= 0) {
+            idsByUsername.remove(readString(offset + USERNAME, NAME_WIDTH));
+            buffer.put(offset + STATUS, (byte) 0);
+            force(playerId);
+        }
+    }
+
+    @Override
+    public synchronized Player getPlayerById(int playerId) {
+        int offset = offsetOf(playerId);
+        return offset < 0 ? null : readRecord(offset);
+    }
+
+    @Override
+    public synchronized Player getPlayerByUsername(String userName) {
+        Integer playerId = idsByUsername.get(userName);
+        return playerId == null ? null : getPlayerById(playerId);
+    }
+
+    @Override
+    public synchronized void changePoints(int playerId, int points) {
+        int offset = offsetOf(playerId);
+        if (offset >= 0) {
+            buffer.putInt(offset + POINTS, points);
+            force(playerId);
+        }
+    }
+
+    @Override
+    public synchronized void applyPointDeltas(Map<Integer, Integer> pointDeltas) {
+        for (Map.Entry<Integer, Integer> delta : pointDeltas.entrySet()) {
+            int offset = offsetOf(delta.getKey());
+            if (offset >= 0) {
+                buffer.putInt(offset + POINTS, buffer.getInt(offset + POINTS) + delta.getValue());
+            }
+        }
+        buffer.force();
+    }
+
+    @Override
+    public synchronized boolean isPlayerAdmin(int playerId) {
+        int offset = offsetOf(playerId);
+        return offset >= 0 && buffer.get(offset + ADMIN) != 0;
+    }
+
+    @Override
+    public synchronized void makePlayerAdmin(int playerId) {
+        int offset = offsetOf(playerId);
+        if (offset >= 0) {
+            buffer.put(offset + ADMIN, (byte) 1);
+            force(playerId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A new password is encrypted before the lock of this service is taken.
+     * </p>
+     */
+    @Override
+    public void updateProfile(Player player) {
+        // Encrypt only a newly given password; any other update keeps the stored one without running BCrypt
+        String newPassword = player.isPasswordChanged() ? encryptPassword(player.getPassword()) : null;
+        synchronized (this) {
+            int offset = offsetOf(player.getPlayerId());
+            if (offset < 0) {
+                return;
+            }
+            player.setPassword(newPassword != null ? newPassword : readString(offset + PASSWORD, PASSWORD_WIDTH));
+            player.clearPasswordChanged();
+            writeRecord(player);
+            force(player.getPlayerId());
+        }
+        Debug.info("Player updated: " + player);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The new password is encrypted before the lock of this service is taken.
+     * </p>
+     */
+    @Override
+    public void changePassword(int playerId, String newPassword) {
+        String encryptedPassword = encryptPassword(newPassword);
+        synchronized (this) {
+            int offset = offsetOf(playerId);
+            if (offset >= 0) {
+                Player player = readRecord(offset);
+                player.setPassword(encryptedPassword);
+                writeRecord(player);
+                force(playerId);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void updateProfile(int playerId, String newFirstName, String newLastName, LocalDate newDateOfBirth) {
+        Player player = getPlayerById(playerId);
+        if (player != null) {
+            player.setFirstName(newFirstName);
+            player.setLastName(newLastName);
+            player.setDateOfBirth(newDateOfBirth);
+            updateProfile(player);
+        }
+    }
+
+    @Override
+    public void updateProfiles(List<Player> players) {
+        players.forEach(this::updateProfile);
+    }
+
+    @Override
+    public boolean verifyPassword(String plainPassword, String encryptedPassword) {
+        return BCrypt.checkpw(plainPassword, encryptedPassword);
+    }
+
+    @Override
+    public synchronized int retrievePointForPlayer(int playerId) {
+        int offset = offsetOf(playerId);
+        if (offset >= 0) {
+            return buffer.getInt(offset + POINTS);
+        }
+        throw new TopCardException("Player not found with ID: " + playerId);
+    }
+
+    @Override
+    public synchronized List<Player> getAllPlayers() {
+        List<Player> players = new ArrayList<>(idsByUsername.size());
+        for (int playerId = 1; playerId <= maxId; playerId++) {
+            int offset = offsetOf(playerId);
+            if (offset >= 0) {
+                players.add(readRecord(offset));
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Writes the header of a new, empty binary file.
+     */
+    private void create() {
+        map(INITIAL_CAPACITY);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, RECORD_SIZE);
+        buffer.force();
+    }
+
+    /**
+     * Maps an existing binary file, builds the username index and resumes the IDs after the
+     * highest ID ever assigned.
+     */
+    private void open() {
+        try {
+            int slots = (int) ((channel.size() - HEADER_SIZE) / RECORD_SIZE);
+            map(Math.max(slots, 1));
+        } catch (IOException e) {
+            throw new TopCardException("Cannot read binary player file. " + e.getMessage(), e);
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE) {
+            throw new TopCardException("Not a TopCard binary player file: " + binaryFilePath);
+        }
+        maxId = buffer.getInt(HIGHEST_ID);
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = HEADER_SIZE + slot * RECORD_SIZE;
+            if (buffer.get(offset + STATUS) != 0) {
+                idsByUsername.put(readString(offset + USERNAME, NAME_WIDTH), slot + 1);
+                maxId = Math.max(maxId, slot + 1); // files written before the highest ID was kept
+            }
+        }
+        Debug.info("Mapped " + idsByUsername.size() + " players from " + binaryFilePath);
+    }
+
+    /**
+     * Maps the file with room for the given number of records, growing the file if needed.
+     *
+     * @param slots the number of records the mapping must hold
+     */
+    private void map(int slots) {
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slots * RECORD_SIZE);
+            capacity = slots;
+        } catch (IOException e) {
+            throw new TopCardException("Cannot map binary player file. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the offset of a player's record.
+     *
+     * @param playerId the ID of the player
+     * @return the offset, or -1 if there is no such player
+     */
+    private int offsetOf(int playerId) {
+        if (playerId < 1 || playerId > capacity) {
+            return -1;
+        }
+        int offset = HEADER_SIZE + (playerId - 1) * RECORD_SIZE;
+        return buffer.get(offset + STATUS) == 0 ? -1 : offset;
+    }
+
+    /**
+     * Writes a whole player record at the slot of its ID, growing the file if needed.
+     * <p>
+     * Every field is checked before the file is touched. A new record is marked in use last,
+     * so it is only seen as a player once it is complete.
+     * </p>
+     *
+     * @param player the player to write
+     * @throws TopCardException if the ID is invalid or a field is too long for its record field
+     */
+    private void writeRecord(Player player) {
+        int playerId = player.getPlayerId();
+        if (playerId < 1) {
+            throw new TopCardException("Invalid player ID: " + playerId);
+        }
+        byte[] username = encode(player.getUsername(), NAME_WIDTH);
+        byte[] password = encode(player.getPassword(), PASSWORD_WIDTH);
+        byte[] firstName = encode(player.getFirstName(), NAME_WIDTH);
+        byte[] lastName = encode(player.getLastName(), NAME_WIDTH);
+
+        if (playerId > capacity) {
+            map(Math.max(playerId, capacity * 2));
+        }
+        if (playerId > buffer.getInt(HIGHEST_ID)) {
+            buffer.putInt(HIGHEST_ID, playerId);
+        }
+        maxId = Math.max(maxId, playerId);
+        int offset = HEADER_SIZE + (playerId - 1) * RECORD_SIZE;
+        if (buffer.get(offset + STATUS) != 0) {
+            idsByUsername.remove(readString(offset + USERNAME, NAME_WIDTH)); // the username may change
+        }
+        buffer.put(offset + ADMIN, (byte) (player.isAdmin() ? 1 : 0));
+        buffer.putInt(offset + PLAYER_ID, playerId);
+        buffer.putInt(offset + POINTS, player.getPoints());
+        buffer.putLong(offset + DATE_OF_BIRTH, player.getDateOfBirth().toEpochDay());
+        writeString(offset + USERNAME, username);
+        writeString(offset + PASSWORD, password);
+        writeString(offset + FIRST_NAME, firstName);
+        writeString(offset + LAST_NAME, lastName);
+        buffer.put(offset + STATUS, (byte) 1);
+        idsByUsername.put(player.getUsername(), playerId);
+    }
+
+    /**
+     * Reads a whole player record.
+     *
+     * @param offset the offset of the record
+     * @return the player
+     */
+    private Player readRecord(int offset) {
+        Player player = new Player(readString(offset + USERNAME, NAME_WIDTH),
+                readString(offset + PASSWORD, PASSWORD_WIDTH),
+                readString(offset + FIRST_NAME, NAME_WIDTH),
+                readString(offset + LAST_NAME, NAME_WIDTH),
+                LocalDate.ofEpochDay(buffer.getLong(offset + DATE_OF_BIRTH)));
+        player.setPlayerId(buffer.getInt(offset + PLAYER_ID));
+        player.setPoints(buffer.getInt(offset + POINTS));
+        player.setAdmin(buffer.get(offset + ADMIN) != 0);
+        return player;
+    }
+
+    private static byte[] encode(String value, int width) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= width) {
+            throw new TopCardException("Value too long for the binary player file (max " + (width - 1)
+                    + " bytes): " + value);
+        }
+        return bytes;
+    }
+
+    private void writeString(int offset, byte[] bytes) {
+        buffer.put(offset, (byte) bytes.length);
+        buffer.put(offset + 1, bytes);
+    }
+
+    private String readString(int offset, int width) {
+        int length = buffer.get(offset) & 0xFF;
+        byte[] bytes = new byte[Math.min(length, width - 1)];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Forces a single player's record to disk.
+     *
+     * @param playerId the ID of the player
+     */
+    private void force(int playerId) {
+        buffer.force(HEADER_SIZE + (playerId - 1) * RECORD_SIZE, RECORD_SIZE);
+    }
+
+    /**
+     * Checks whether a username is taken.
+     *
+     * @param username the lower-case username
+     * @return true if a player has the username
+     */
+    private synchronized boolean hasUsername(String username) {
+        return idsByUsername.containsKey(username);
+    }
+
+    /**
+     * Encrypts a password using BCrypt.
+     *
+     * @param password the plain text password
+     * @return the encrypted password
+     */
+    private String encryptPassword(String password) {
+        return BCrypt.hashpw(password, BCrypt.gensalt());
+    }
+}
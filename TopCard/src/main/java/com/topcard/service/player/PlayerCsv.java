@@ -0,0 +1,150 @@
+package com.topcard.service.player;
+
+import com.topcard.domain.Player;
+import com.topcard.exceptions.TopCardException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PlayerCsv holds the players.csv row format shared by the player services.
+ * A row is: id,username,password,firstName,lastName,dateOfBirth,points,isAdmin
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * Subject: MSSE 670 Object Oriented Software Construction
+ * </p>
+ */
+final class PlayerCsv {
+
+    private PlayerCsv() {
+        // Utility class
+    }
+
+    /**
+     * Splits a line from the file into an array of strings.
+     *
+     * @param line the line to be split
+     * @return an array of strings resulting from the split
+     */
+    static String[] splitLine(String line) {
+        return line.split("[,\\s]+");
+    }
+
+    /**
+     * Parses an integer value from a string.
+     *
+     * @param value the string to be parsed
+     * @return the parsed integer value
+     */
+    static int parseInt(String value) {
+        return Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Converts a CSV string to a Player object.
+     *
+     * @param line the CSV string representing a player
+     * @return the Player object
+     */
+    static Player toPlayer(String line) {
+        String[] parts = splitLine(line);
+        Player player = new Player(parts[1], parts[2], parts[3], parts[4], LocalDate.parse(parts[5]));
+        player.setPlayerId(parseInt(parts[0]));
+        player.setPoints(parseInt(parts[6]));
+        player.setAdmin(Boolean.parseBoolean(parts[7]));
+        return player;
+    }
+
+    /**
+     * Converts a Player object to a CSV string.
+     *
+     * @param player the player to be converted
+     * @return the CSV string representing the player
+     */
+    static String toCsv(Player player) {
+        return String.join(",", String.valueOf(player.getPlayerId()), player.getUsername(), player.getPassword(),
+                player.getFirstName(), player.getLastName(), player.getDateOfBirth().toString(),
+                String.valueOf(player.getPoints()), String.valueOf(player.isAdmin()));
+    }
+
+    /**
+     * Reads all lines from the given player data file.
+     *
+     * @param dataFilePath the player data file
+     * @return a list of strings, each representing a line from the file
+     */
+    static List<String> readLines(Path dataFilePath) {
+        try {
+            return Files.readAllLines(dataFilePath);
+        } catch (IOException e) {
+            throw new TopCardException("Cannot Read data file. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the content of the given player data file with the lines.
+     *
+     * @param dataFilePath the player data file
+     * @param lines        the lines to be written
+     */
+    static void writeLines(Path dataFilePath, List<String> lines) {
+        try {
+            replaceLines(dataFilePath, lines);
+        } catch (IOException e) {
+            throw new TopCardException("Error writing to player data file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the lines to a temporary file next to the data file, forces it to disk and atomically
+     * moves it over the data file. A crash or a failed write therefore leaves either the old or the
+     * new content, never a truncated file.
+     *
+     * @param dataFilePath the player data file
+     * @param lines        the lines to be written
+     * @throws IOException if the temporary file cannot be written or moved
+     */
+    static void replaceLines(Path dataFilePath, List<String> lines) throws IOException {
+        Path tempPath = dataFilePath.resolveSibling(dataFilePath.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+                writer.flush();
+                channel.force(true);
+            }
+            Files.move(tempPath, dataFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Appends a single line to the given player data file.
+     *
+     * @param dataFilePath the player data file
+     * @param line         the line to be appended
+     */
+    static void appendLine(Path dataFilePath, String line) {
+        try (BufferedWriter writer = Files.newBufferedWriter(dataFilePath, StandardOpenOption.APPEND)) {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new TopCardException("Error writing to player data file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.topcard.service.player;
+
+import com.topcard.domain.Player;
+import com.topcard.exceptions.TopCardException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * PlayerCsvScanner looks players up in players.csv without splitting lines into strings.
+ * <p>
+ * The file is streamed through a fixed byte buffer and walked one field at a time, treating a run
+ * of commas and whitespace as one separator, exactly like {@link PlayerCsv#splitLine(String)}.
+ * IDs are parsed and usernames compared in place, and a Player is built only for the matching row,
+ * so a lookup allocates nothing per scanned row, however large the file is.
+ * </p>
+ * <p>
+ * A row cut off at the end of the buffer is moved to its start before the next read, so every row
+ * is scanned whole. Only a single row longer than the buffer makes it grow, and the grown buffer
+ * is dropped once the scan is over.
+ * </p>
+ * <p>
+ * A scanner reuses its buffer and is not thread-safe; {@link #get()} returns one per thread.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+final class PlayerCsvScanner {
+
+    /**
+     * Size of the buffer each thread streams the file through.
+     */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<PlayerCsvScanner> SCANNERS = ThreadLocal.withInitial(PlayerCsvScanner::new);
+
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] data = buffer.array();
+    private int length;
+    private int line;
+    private int lineEnd;
+    private boolean endOfFile;
+
+    /**
+     * Returns the scanner of the calling thread.
+     *
+     * @return the scanner of the calling thread
+     */
+    static PlayerCsvScanner get() {
+        return SCANNERS.get();
+    }
+
+    /**
+     * Finds the player with the given ID.
+     *
+     * @param dataFilePath the player data file
+     * @param playerId     the ID to look for
+     * @return the player, or null if not found
+     */
+    Player findById(Path dataFilePath, int playerId) {
+        try (FileChannel channel = open(dataFilePath)) {
+            while (nextLine(channel)) {
+                int field = skipSeparators(line);
+                if (field < lineEnd && parseInt(field) == playerId) {
+                    return toPlayer();
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new TopCardException("Cannot Read data file. " + e.getMessage());
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Finds the player with the given username.
+     *
+     * @param dataFilePath the player data file
+     * @param username     the username to look for
+     * @return the player, or null if not found
+     */
+    Player findByUsername(Path dataFilePath, String username) {
+        byte[] wanted = username.getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = open(dataFilePath)) {
+            while (nextLine(channel)) {
+                int field = skipSeparators(skipField(skipSeparators(line)));
+                if (field < lineEnd && fieldEquals(field, wanted)) {
+                    return toPlayer();
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new TopCardException("Cannot Read data file. " + e.getMessage());
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns the highest player ID in the data file.
+     *
+     * @param dataFilePath the player data file
+     * @return the highest ID, or 0 if the file has no players
+     */
+    int maxId(Path dataFilePath) {
+        try (FileChannel channel = open(dataFilePath)) {
+            int maxId = 0;
+            while (nextLine(channel)) {
+                int field = skipSeparators(line);
+                if (field < lineEnd) {
+                    maxId = Math.max(maxId, parseInt(field));
+                }
+            }
+            return maxId;
+        } catch (IOException e) {
+            throw new TopCardException("Cannot Read data file. " + e.getMessage());
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Opens the data file and empties the buffer for a new scan.
+     *
+     * @param dataFilePath the player data file
+     * @return the channel to read the file from
+     * @throws IOException if the file cannot be opened
+     */
+    private FileChannel open(Path dataFilePath) throws IOException {
+        FileChannel channel = FileChannel.open(dataFilePath, StandardOpenOption.READ);
+        length = 0;
+        lineEnd = -1;
+        endOfFile = false;
+        return channel;
+    }
+
+    /**
+     * Moves to the next row, so that it lies whole between line and lineEnd, its line break or the
+     * end of the file. A row cut off at the end of the buffer is moved to its start and completed
+     * by the next read.
+     *
+     * @param channel the channel of the data file
+     * @return false once every row was scanned
+     * @throws IOException if the file cannot be read
+     */
+    private boolean nextLine(FileChannel channel) throws IOException {
+        line = lineEnd + 1;
+        int index = line;
+        while (true) {
+            while (index < length && data[index] != '\n') {
+                index++;
+            }
+            if (index < length) {
+                lineEnd = index;
+                return true;
+            }
+            if (endOfFile) {
+                lineEnd = length;
+                return line < length;
+            }
+            // Carry the part of the row already read over to the start of the buffer
+            length -= line;
+            index -= line;
+            System.arraycopy(data, line, data, 0, length);
+            line = 0;
+            if (length == data.length) {
+                grow();
+            }
+            buffer.clear().position(length);
+            int read = channel.read(buffer);
+            if (read < 0) {
+                endOfFile = true;
+            } else {
+                length += read;
+            }
+        }
+    }
+
+    /**
+     * Doubles the buffer for a row longer than it, keeping the bytes already read.
+     */
+    private void grow() {
+        ByteBuffer grown = ByteBuffer.allocate(data.length * 2);
+        System.arraycopy(data, 0, grown.array(), 0, length);
+        buffer = grown;
+        data = grown.array();
+    }
+
+    /**
+     * Drops a buffer grown for an overlong row, so the thread keeps only BUFFER_SIZE bytes after the scan.
+     */
+    private void release() {
+        if (buffer.capacity() > BUFFER_SIZE) {
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            data = buffer.array();
+        }
+        length = 0;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    /**
+     * Skips commas and whitespace, but not the line break.
+     */
+    private int skipSeparators(int index) {
+        while (index < length && isSeparator(data[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Skips the characters of one field.
+     */
+    private int skipField(int index) {
+        while (index < length && data[index] != '\n' && !isSeparator(data[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Parses the ID field in place. Like Integer.parseInt, it accepts an optional sign and rejects
+     * an empty field, any other character and a value outside the int range.
+     */
+    private int parseInt(int index) {
+        int end = skipField(index);
+        int i = index;
+        boolean negative = false;
+        if (i < end && (data[i] == '-' || data[i] == '+')) {
+            negative = data[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            throw numberFormatException(index, end);
+        }
+        // Accumulate negatively, since the negative range is one larger than the positive one.
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9 || value < (Integer.MIN_VALUE + digit) / 10) {
+                throw numberFormatException(index, end);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Integer.MIN_VALUE) {
+                throw numberFormatException(index, end);
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    private NumberFormatException numberFormatException(int index, int end) {
+        return new NumberFormatException("For input string: \""
+                + new String(data, index, end - index, StandardCharsets.UTF_8) + "\"");
+    }
+
+    /**
+     * Compares the field starting at index with the wanted bytes.
+     */
+    private boolean fieldEquals(int index, byte[] wanted) {
+        int end = skipField(index);
+        if (end - index != wanted.length) {
+            return false;
+        }
+        for (int i = 0; i < wanted.length; i++) {
+            if (data[index + i] != wanted[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the Player of the current row.
+     */
+    private Player toPlayer() {
+        return PlayerCsv.toPlayer(new String(data, line, lineEnd - line, StandardCharsets.UTF_8));
+    }
+}
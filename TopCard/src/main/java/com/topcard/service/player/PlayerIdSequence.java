@@ -0,0 +1,98 @@
+package com.topcard.service.player;
+
+import com.topcard.exceptions.TopCardException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * PlayerIdSequence hands out new player IDs from a counter instead of scanning the data for the highest ID.
+ * <p>
+ * Each player service keeps a sequence of its own over its data file. IDs are reserved in blocks and only
+ * the end of the current block is written to "&lt;data file&gt;.seq", so most allocations touch no file at
+ * all. On start-up the counter resumes from the higher of the stored value and the highest ID found in the
+ * data, so IDs keep increasing even if the sequence file is lost. When a block runs out, the stored value
+ * is read again, so the new block starts after any block another service over the same file reserved.
+ * </p>
+ * <p>
+ * IDs are unique and increasing but not contiguous: the unused rest of the current block is never handed
+ * out, so every restart leaves a gap of up to BLOCK_SIZE - 1 IDs.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+final class PlayerIdSequence {
+
+    /**
+     * Number of IDs reserved with one write of the sequence file.
+     */
+    static final int BLOCK_SIZE = 32;
+
+    private final Path sequencePath;
+    private int lastId;
+    private int reservedUpTo;
+
+    /**
+     * Loads the sequence of a data file.
+     *
+     * @param dataFilePath    the player data file
+     * @param highestIdInData the highest ID in the data, 0 if none
+     */
+    PlayerIdSequence(Path dataFilePath, int highestIdInData) {
+        this.sequencePath = dataFilePath.resolveSibling(dataFilePath.getFileName() + ".seq");
+        this.lastId = Math.max(readStoredId(), highestIdInData);
+        this.reservedUpTo = lastId;
+    }
+
+    /**
+     * Allocates the next player ID. Safe to call from several threads.
+     *
+     * @return a new unique ID
+     */
+    synchronized int next() {
+        int id = lastId + 1;
+        if (id > reservedUpTo) {
+            // Store the end of a new block before any ID in it is handed out.
+            id = Math.max(id, readStoredId() + 1);
+            int blockEnd = id + BLOCK_SIZE - 1;
+            store(blockEnd);
+            reservedUpTo = blockEnd;
+        }
+        lastId = id;
+        return id;
+    }
+
+    /**
+     * Restarts the sequence after all players were deleted.
+     *
+     * @param highestId the highest ID still in use, 0 if none
+     */
+    synchronized void reset(int highestId) {
+        lastId = highestId;
+        reservedUpTo = highestId;
+        store(highestId);
+    }
+
+    private int readStoredId() {
+        try {
+            if (Files.exists(sequencePath)) {
+                return Integer.parseInt(Files.readString(sequencePath, StandardCharsets.UTF_8).trim());
+            }
+        } catch (IOException | NumberFormatException e) {
+            // The data file still holds every used ID, so an unreadable sequence is recovered from it.
+        }
+        return 0;
+    }
+
+    private void store(int id) {
+        try {
+            Files.writeString(sequencePath, String.valueOf(id), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new TopCardException("Error writing player ID sequence: " + e.getMessage(), e);
+        }
+    }
+}
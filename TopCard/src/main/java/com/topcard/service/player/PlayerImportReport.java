@@ -0,0 +1,73 @@
+package com.topcard.service.player;
+
+/**
+ * The PlayerImportReport class describes the progress or the result of a bulk player import.
+ * <p>
+ * A report is immutable; an import hands out a new one after every chunk of players it stores.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class PlayerImportReport {
+
+    private final int imported;
+    private final int skipped;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a PlayerImportReport.
+     *
+     * @param imported     the number of players stored so far
+     * @param skipped      the number of players skipped because their username already exists
+     * @param elapsedNanos the time spent since the import started, in nanoseconds
+     */
+    public PlayerImportReport(int imported, int skipped, long elapsedNanos) {
+        this.imported = imported;
+        this.skipped = skipped;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of players stored so far.
+     *
+     * @return the number of imported players
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * Returns the number of players skipped because their username already exists.
+     *
+     * @return the number of skipped players
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Returns the time spent since the import started.
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Returns the import throughput.
+     *
+     * @return the number of imported players per second
+     */
+    public double getPlayersPerSecond() {
+        return elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d players imported, %d skipped in %d ms (%.1f players/s)",
+                imported, skipped, getElapsedMillis(), getPlayersPerSecond());
+    }
+}
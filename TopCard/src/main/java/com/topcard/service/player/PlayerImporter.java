@@ -0,0 +1,158 @@
+package com.topcard.service.player;
+
+import com.topcard.debug.Debug;
+import com.topcard.domain.Player;
+import com.topcard.exceptions.TopCardException;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * PlayerImporter adds a stream of new players to a player store in chunks.
+ * <p>
+ * Usernames are de-duplicated against the store and within the import before any hashing is done.
+ * The passwords of a chunk are then encrypted in parallel on a bounded pool, IDs are given in input
+ * order, and the chunk is handed to the store in one write. Only one chunk is held in memory at a time.
+ * </p>
+ * <p>
+ * The importer takes no lock itself. A store that stays open to other callers during an import checks
+ * its usernames again when a chunk is written, and leaves out the players added meanwhile by someone else.
+ * </p>
+ * <p>
+ * Like {@link IPlayerService#addPlayer(Player)}, the import updates the given players with their new ID,
+ * lower-case username and encrypted password.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+final class PlayerImporter {
+
+    /**
+     * Number of players encrypted and written together.
+     */
+    static final int CHUNK_SIZE = 256;
+
+    /**
+     * The player store an import writes to.
+     */
+    interface Store {
+
+        /**
+         * Checks whether a username is already taken in the store.
+         *
+         * @param username the lower-case username
+         * @return true if the username is taken
+         */
+        boolean contains(String username);
+
+        /**
+         * Allocates a new player ID.
+         *
+         * @return a new unique ID
+         */
+        int nextId();
+
+        /**
+         * Stores a chunk of new players whose passwords are already encrypted.
+         *
+         * @param players the players to store
+         * @return the number of players stored, less than the chunk if some usernames were taken meanwhile
+         */
+        int write(List<Player> players);
+    }
+
+    private PlayerImporter() {
+    }
+
+    /**
+     * Imports players into a store.
+     *
+     * @param players  the players to import
+     * @param store    the store to write to
+     * @param progress receives a report after every chunk, may be null
+     * @return the final report
+     */
+    static PlayerImportReport run(Iterator<Player> players, Store store, Consumer<PlayerImportReport> progress) {
+        long start = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor hashingPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(CHUNK_SIZE), new ThreadPoolExecutor.CallerRunsPolicy());
+        Set<String> seen = new HashSet<>();
+        int imported = 0;
+        int skipped = 0;
+        try {
+            List<Player> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (players.hasNext()) {
+                Player player = players.next();
+                String username = player.getUsername().toLowerCase();
+                if (store.contains(username) || !seen.add(username)) {
+                    skipped++;
+                    continue;
+                }
+                player.setUsername(username);
+                chunk.add(player);
+                if (chunk.size() == CHUNK_SIZE) {
+                    int written = writeChunk(chunk, store, hashingPool);
+                    imported += written;
+                    skipped += chunk.size() - written;
+                    chunk.clear();
+                    if (progress != null) {
+                        progress.accept(new PlayerImportReport(imported, skipped, System.nanoTime() - start));
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                int written = writeChunk(chunk, store, hashingPool);
+                imported += written;
+                skipped += chunk.size() - written;
+            }
+        } finally {
+            hashingPool.shutdownNow();
+        }
+        PlayerImportReport report = new PlayerImportReport(imported, skipped, System.nanoTime() - start);
+        if (progress != null) {
+            progress.accept(report);
+        }
+        Debug.info("Player import finished: " + report);
+        return report;
+    }
+
+    /**
+     * Encrypts the passwords of a chunk in parallel, gives the players their IDs and stores them.
+     *
+     * @return the number of players stored
+     */
+    private static int writeChunk(List<Player> chunk, Store store, ThreadPoolExecutor hashingPool) {
+        List<Future<String>> hashes = new ArrayList<>(chunk.size());
+        for (Player player : chunk) {
+            String password = player.getPassword();
+            hashes.add(hashingPool.submit(() -> BCrypt.hashpw(password, BCrypt.gensalt())));
+        }
+        try {
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setPassword(hashes.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TopCardException("Player import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new TopCardException("Error encrypting password: " + e.getCause().getMessage(), e.getCause());
+        }
+        for (Player player : chunk) {
+            player.setPlayerId(store.nextId());
+        }
+        return store.write(chunk);
+    }
+}
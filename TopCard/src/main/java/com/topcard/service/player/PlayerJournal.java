@@ -0,0 +1,356 @@
+package com.topcard.service.player;
+
+import com.topcard.debug.Debug;
+import com.topcard.domain.Player;
+import com.topcard.exceptions.TopCardException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * PlayerJournal is an append-only write-ahead log of player changes kept next to the player data file.
+ * <p>
+ * Every change is appended as one line and forced to disk before the call returns:
+ * "U,&lt;csv row&gt;,&lt;crc&gt;" stores the whole player and "D,&lt;id&gt;,&lt;crc&gt;" removes one.
+ * "B,&lt;count&gt;,&lt;crc&gt;" starts a batch of that many records, which is replayed all together or not at all.
+ * Records hold complete rows, so replaying a record twice gives the same result.
+ * A record whose checksum does not match, or that is not terminated by a line break,
+ * is the torn tail of a crash and ends the replay.
+ * </p>
+ * <p>
+ * Compaction folds the journal back into the data file (the snapshot). The active journal is
+ * first rotated to "&lt;data file&gt;.journal.1", the snapshot is written to a temporary file and
+ * atomically moved over the data file, and only then is the rotated journal deleted.
+ * A crash at any point therefore leaves a snapshot plus journals that replay to the latest state.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+final class PlayerJournal {
+
+    private static final String UPSERT = "U";
+    private static final String DELETE = "D";
+    private static final String BATCH = "B";
+
+    private final Path dataFilePath;
+    private final Path journalPath;
+    private final Path rotatedJournalPath;
+    private FileChannel channel;
+    private int records;
+
+    /**
+     * Constructs the journal for the given player data file.
+     *
+     * @param dataFilePath the player data file (the snapshot)
+     */
+    PlayerJournal(Path dataFilePath) {
+        this.dataFilePath = dataFilePath;
+        this.journalPath = dataFilePath.resolveSibling(dataFilePath.getFileName() + ".journal");
+        this.rotatedJournalPath = dataFilePath.resolveSibling(dataFilePath.getFileName() + ".journal.1");
+    }
+
+    /**
+     * Replays the rotated and the active journal, in that order, on top of the snapshot players.
+     *
+     * @param players the snapshot players by ID, updated in place
+     * @return the number of records replayed
+     */
+    int replay(Map<Integer, Player> players) {
+        return replay(rotatedJournalPath, players) + replay(journalPath, players);
+    }
+
+    /**
+     * Appends a record that stores the whole player.
+     *
+     * @param player the player to store
+     */
+    void appendUpsert(Player player) {
+        append(UPSERT + "," + PlayerCsv.toCsv(player));
+    }
+
+    /**
+     * Appends a record that removes a player.
+     *
+     * @param playerId the ID of the player to remove
+     */
+    void appendDelete(int playerId) {
+        append(DELETE + "," + playerId);
+    }
+
+    /**
+     * Appends records that store the given players as one batch, with a single write to disk.
+     * On replay the batch is applied completely or, if a crash cut it short, not at all.
+     *
+     * @param players the players to store
+     */
+    void appendUpserts(Collection<Player> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        StringBuilder batch = new StringBuilder(withChecksum(BATCH + "," + players.size()));
+        for (Player player : players) {
+            batch.append(withChecksum(UPSERT + "," + PlayerCsv.toCsv(player)));
+        }
+        write(batch.toString(), players.size());
+    }
+
+    /**
+     * Returns the number of records appended since the last rotation.
+     *
+     * @return the number of records in the active journal
+     */
+    int size() {
+        return records;
+    }
+
+    /**
+     * Moves the active journal aside so that new records go to a fresh one while the
+     * snapshot is written. Must be called while no other thread appends.
+     * If an earlier compaction failed and left a rotated journal behind, the active
+     * journal is appended to it rather than replacing it.
+     */
+    void rotate() {
+        closeChannel();
+        try {
+            if (Files.exists(journalPath)) {
+                if (Files.exists(rotatedJournalPath)) {
+                    Files.write(rotatedJournalPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+                    Files.delete(journalPath);
+                } else {
+                    Files.move(journalPath, rotatedJournalPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        } catch (IOException e) {
+            throw new TopCardException("Error rotating player journal: " + e.getMessage(), e);
+        }
+        records = 0;
+    }
+
+    /**
+     * Atomically replaces the snapshot with the given lines and drops the rotated journal.
+     *
+     * @param lines the CSV rows of every player
+     */
+    void writeSnapshot(List<String> lines) {
+        Path tempPath = dataFilePath.resolveSibling(dataFilePath.getFileName() + ".tmp");
+        try (FileChannel tempChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringBuilder sb = new StringBuilder();
+            for (String line : lines) {
+                sb.append(line).append(System.lineSeparator());
+            }
+            write(tempChannel, sb.toString());
+            tempChannel.force(true);
+        } catch (IOException e) {
+            throw new TopCardException("Error writing player snapshot: " + e.getMessage(), e);
+        }
+        try {
+            Files.move(tempPath, dataFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(rotatedJournalPath);
+        } catch (IOException e) {
+            throw new TopCardException("Error replacing player snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a snapshot that already contains every journal record and removes both journals.
+     * Used once on start-up, after replay.
+     *
+     * @param lines the CSV rows of every player
+     */
+    void fold(List<String> lines) {
+        closeChannel();
+        writeSnapshot(lines);
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException e) {
+            throw new TopCardException("Error removing player journal: " + e.getMessage(), e);
+        }
+        records = 0;
+    }
+
+    /**
+     * Appends one record with its checksum and forces it to disk.
+     *
+     * @param record the record without checksum
+     */
+    private void append(String record) {
+        write(withChecksum(record), 1);
+    }
+
+    /**
+     * Writes complete journal lines and forces them to disk.
+     *
+     * @param lines      the journal lines, each terminated by a line break
+     * @param newRecords the number of records the lines hold
+     */
+    private void write(String lines, int newRecords) {
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            write(channel, lines);
+            channel.force(false);
+            records += newRecords;
+        } catch (IOException e) {
+            throw new TopCardException("Error writing to player journal: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replays a single journal file.
+     *
+     * @param path    the journal file
+     * @param players the players by ID, updated in place
+     * @return the number of records replayed
+     */
+    private int replay(Path path, Map<Integer, Player> players) {
+        if (Files.notExists(path)) {
+            return 0;
+        }
+        String content;
+        try {
+            content = Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new TopCardException("Cannot read player journal. " + e.getMessage(), e);
+        }
+        // A record without its line break was cut off by a crash and is never applied.
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = content.indexOf('\n', start)) >= 0) {
+            lines.add(content.substring(start, end));
+            start = end + 1;
+        }
+
+        int replayed = 0;
+        int index = 0;
+        while (index < lines.size()) {
+            String record = verify(lines.get(index));
+            int count = 1;
+            List<String> batch;
+            if (record != null && record.startsWith(BATCH + ",")) {
+                count = PlayerCsv.parseInt(record.substring(2));
+                batch = verifyBatch(lines, index + 1, count);
+                index++;
+            } else {
+                batch = record == null ? null : List.of(record);
+            }
+            if (batch == null || !batch.stream().allMatch(r -> apply(r, players))) {
+                Debug.warn("Ignoring torn record at the end of " + path);
+                break;
+            }
+            replayed += count;
+            index += count;
+        }
+        return replayed;
+    }
+
+    /**
+     * Checks the checksum of one journal line.
+     *
+     * @param line the journal line
+     * @return the record without its checksum, or null if the line is damaged
+     */
+    private String verify(String line) {
+        int crcStart = line.lastIndexOf(',');
+        if (crcStart <= 0) {
+            return null;
+        }
+        String record = line.substring(0, crcStart);
+        return line.substring(crcStart + 1).equals(checksum(record)) ? record : null;
+    }
+
+    /**
+     * Checks every record of a batch.
+     *
+     * @param lines the journal lines
+     * @param from  the index of the first record of the batch
+     * @param count the number of records in the batch
+     * @return the records, or null if the batch is incomplete or damaged
+     */
+    private List<String> verifyBatch(List<String> lines, int from, int count) {
+        if (from + count > lines.size()) {
+            return null;
+        }
+        List<String> batch = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            String record = verify(lines.get(i));
+            if (record == null) {
+                return null;
+            }
+            batch.add(record);
+        }
+        return batch;
+    }
+
+    /**
+     * Applies one verified journal record.
+     *
+     * @param record  the record without its checksum
+     * @param players the players by ID, updated in place
+     * @return true if the record was applied, false if it could not be read
+     */
+    private boolean apply(String record, Map<Integer, Player> players) {
+        try {
+            String payload = record.substring(2);
+            if (record.startsWith(UPSERT + ",")) {
+                Player player = PlayerCsv.toPlayer(payload);
+                players.put(player.getPlayerId(), player);
+                return true;
+            }
+            if (record.startsWith(DELETE + ",")) {
+                players.remove(PlayerCsv.parseInt(payload));
+                return true;
+            }
+        } catch (RuntimeException e) {
+            Debug.warn("Unreadable journal record: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Closes the active journal channel, if open.
+     */
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                Debug.warn("Error closing player journal: " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    private static void write(FileChannel target, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static String withChecksum(String record) {
+        return record + "," + checksum(record) + "\n";
+    }
+
+    private static String checksum(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
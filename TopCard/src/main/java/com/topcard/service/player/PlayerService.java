@@ -1,21 +1,24 @@
 package com.topcard.service.player;
 
+import com.topcard.config.TopCardConfig;
 import com.topcard.debug.Debug;
 import com.topcard.domain.Player;
 import com.topcard.exceptions.TopCardException;
 import org.mindrot.jbcrypt.BCrypt;
 
 import java.io.BufferedWriter;
-import java.io.InputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -26,29 +29,43 @@ import java.util.stream.Collectors;
  * as well as managing player points and admin status.
  * </p>
  * <p>
+ * Removing, updating and changing the points of players rewrite players.csv through a temporary
+ * file that is atomically moved over it, so a crash in the middle of a rewrite loses at most that
+ * change and never truncates the file.
+ * </p>
+ * <p>
  * Author: Rajesh Rajchal
  * Date: 12/13/2024
  * </p>
  */
 public class PlayerService implements IPlayerService {
 
-    private static final Path dataFilePath;
+    private final Path dataFilePath;
+    private PlayerIdSequence idSequence;
 
-    static {
-        Properties properties = new Properties();
-        Path configFilePath = Paths.get("config", "config.properties");
+    /**
+     * Constructs a PlayerService over the data file of the application configuration.
+     */
+    public PlayerService() {
+        this(TopCardConfig.getDefault());
+    }
 
-        try (InputStream input = Files.newInputStream(configFilePath)) {
-            // Load the properties file
-            properties.load(input);
-            dataFilePath = Paths.get(properties.getProperty("FILE_PATH"));
-        } catch (IOException ex) {
-            throw new TopCardException("Failed to load configuration properties. " + ex.getMessage());
-        }
+    /**
+     * Constructs a PlayerService over the data file configured by FILE_PATH.
+     *
+     * @param config the configuration
+     */
+    public PlayerService(TopCardConfig config) {
+        this(config.getDataFilePath());
     }
 
-    public PlayerService() {
-        // Default constructor
+    /**
+     * Constructs a PlayerService over the given players.csv file.
+     *
+     * @param dataFilePath the player data file
+     */
+    public PlayerService(Path dataFilePath) {
+        this.dataFilePath = dataFilePath;
     }
 
     @Override
@@ -68,7 +85,45 @@ public class PlayerService implements IPlayerService {
 
     @Override
     public void addPlayers(List<Player> players) {
-        players.forEach(this::addPlayer);
+        importPlayers(players.iterator(), null);
+    }
+
+    @Override
+    public PlayerImportReport importPlayers(Iterator<Player> players, Consumer<PlayerImportReport> progress) {
+        Set<String> usernames = new HashSet<>();
+        for (String line : readLinesFromFile()) {
+            if (!line.isEmpty()) {
+                usernames.add(splitLine(line)[1].trim().toLowerCase());
+            }
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(dataFilePath, StandardOpenOption.APPEND)) {
+            return PlayerImporter.run(players, new PlayerImporter.Store() {
+                @Override
+                public boolean contains(String username) {
+                    return usernames.contains(username);
+                }
+
+                @Override
+                public int nextId() {
+                    return getNewId();
+                }
+
+                @Override
+                public int write(List<Player> chunk) {
+                    try {
+                        for (Player player : chunk) {
+                            writer.write(playerToCsvString(player));
+                            writer.newLine();
+                        }
+                        return chunk.size();
+                    } catch (IOException e) {
+                        throw new TopCardException("Error writing to player data file: " + e.getMessage());
+                    }
+                }
+            }, progress);
+        } catch (IOException e) {
+            throw new TopCardException("Error writing to player data file: " + e.getMessage());
+        }
     }
 
     @Override
@@ -82,12 +137,12 @@ public class PlayerService implements IPlayerService {
 
     @Override
     public Player getPlayerById(int playerId) {
-        return findPlayer(line -> parseInt(splitLine(line)[0]) == playerId);
+        return PlayerCsvScanner.get().findById(dataFilePath, playerId);
     }
 
     @Override
     public Player getPlayerByUsername(String userName) {
-        return findPlayer(line -> splitLine(line)[1].trim().equals(userName));
+        return PlayerCsvScanner.get().findByUsername(dataFilePath, userName);
     }
 
     @Override
@@ -95,10 +150,31 @@ public class PlayerService implements IPlayerService {
         Player player = getPlayerById(playerId);
         if (player != null) {
             player.setPoints(points);
-            updateProfile(player, false);
+            updateProfile(player);
         }
     }
 
+    @Override
+    public void applyPointDeltas(Map<Integer, Integer> pointDeltas) {
+        if (pointDeltas.isEmpty()) {
+            return;
+        }
+        List<String> lines = readLinesFromFile();
+        lines = lines.stream()
+                .map(line -> {
+                    Integer delta = line.isEmpty() ? null : pointDeltas.get(parseInt(splitLine(line)[0]));
+                    if (delta == null) {
+                        return line;
+                    }
+                    Player player = csvStringToPlayer(line);
+                    player.changePoints(delta);
+                    return playerToCsvString(player);
+                })
+                .collect(Collectors.toList());
+        writeLinesToFile(lines);
+        Debug.info("Points changed for " + pointDeltas.size() + " players: " + pointDeltas);
+    }
+
     @Override
     public boolean isPlayerAdmin(int playerId) {
         Player player = getPlayerById(playerId);
@@ -114,47 +190,35 @@ public class PlayerService implements IPlayerService {
         }
     }
 
-    private void updateProfile(Player player, boolean changePassword) {
-        if (changePassword) {
-            updateProfile(player);
-            return;
-        }
-        List<String> lines = readLinesFromFile();
-        lines = lines.stream()
-                .map(line -> {
-                    String[] parts = splitLine(line);
-                    if (parts[0].equals(String.valueOf(player.getPlayerId()))) {
-                        player.setPassword(parts[2]); // Keep the existing encrypted password
-                        return playerToCsvString(player);
-                    }
-                    return line;
-                })
-                .collect(Collectors.toList());
-        writeLinesToFile(lines);
-        Debug.info("Player's points updated: " + player);
-    }
-
     @Override
     public void updateProfile(Player player) {
+        // Encrypt only a newly given password; any other update keeps the stored one without running BCrypt
+        String newPassword = player.isPasswordChanged() ? encryptPassword(player.getPassword()) : null;
         List<String> lines = readLinesFromFile();
         lines = lines.stream()
                 .map(line -> {
                     String[] parts = splitLine(line);
                     if (parts[0].equals(String.valueOf(player.getPlayerId()))) {
-                        if (!BCrypt.checkpw(player.getPassword(), parts[2])) {
-                            player.setPassword(encryptPassword(player.getPassword())); // Encrypt the password if it has changed
-                        } else {
-                            player.setPassword(parts[2]); // Keep the existing encrypted password
-                        }
+                        player.setPassword(newPassword != null ? newPassword : parts[2]);
                         return playerToCsvString(player);
                     }
                     return line;
                 })
                 .collect(Collectors.toList());
         writeLinesToFile(lines);
+        player.clearPasswordChanged();
         Debug.info("Player updated: " + player);
     }
 
+    @Override
+    public void changePassword(int playerId, String newPassword) {
+        Player player = getPlayerById(playerId);
+        if (player != null) {
+            player.changePassword(newPassword);
+            updateProfile(player);
+        }
+    }
+
     @Override
     public void updateProfile(int playerId, String newFirstName, String newLastName, LocalDate newDateOfBirth) {
         Player player = getPlayerById(playerId);
@@ -197,26 +261,31 @@ public class PlayerService implements IPlayerService {
         return BCrypt.hashpw(password, BCrypt.gensalt());
     }
 
-    /**
-     * Verifies a plain text password against an encrypted password.
-     *
-     * @param plainPassword the plain text password
-     * @param encryptedPassword the encrypted password
-     * @return true if the password matches, false otherwise
-     */
+    @Override
     public boolean verifyPassword(String plainPassword, String encryptedPassword) {
         return BCrypt.checkpw(plainPassword, encryptedPassword);
     }
 
     /**
-     * Generates a new unique ID for a player by analyzing existing IDs.
+     * Generates a new unique ID for a player from the ID sequence of this service.
+     * The data file is scanned for the highest ID only when the sequence is first loaded.
      *
      * @return a new unique ID
      */
     private int getNewId() {
-        return readLinesFromFile().stream()
-                .mapToInt(line -> line.isEmpty() ? 0 : parseInt(splitLine(line)[0]))
-                .max().orElse(0) + 1;
+        return idSequence().next();
+    }
+
+    /**
+     * Returns the ID sequence of this service, loading it on first use.
+     *
+     * @return the ID sequence
+     */
+    private synchronized PlayerIdSequence idSequence() {
+        if (idSequence == null) {
+            idSequence = new PlayerIdSequence(dataFilePath, PlayerCsvScanner.get().maxId(dataFilePath));
+        }
+        return idSequence;
     }
 
     /**
@@ -225,12 +294,7 @@ public class PlayerService implements IPlayerService {
      * @param player the player to be registered
      */
     private void register(Player player) {
-        try (BufferedWriter writer = Files.newBufferedWriter(dataFilePath, StandardOpenOption.APPEND)) {
-            writer.write(playerToCsvString(player));
-            writer.newLine();
-        } catch (IOException e) {
-            throw new TopCardException("Error writing to player data file: " + e.getMessage());
-        }
+        PlayerCsv.appendLine(dataFilePath, playerToCsvString(player));
     }
 
     /**
@@ -239,6 +303,7 @@ public class PlayerService implements IPlayerService {
      */
     private void deleteAllPlayersData() {
         writeLinesToFile(Collections.emptyList());
+        idSequence().reset(0);
     }
 
     /**
@@ -247,11 +312,7 @@ public class PlayerService implements IPlayerService {
      * @return a list of strings, each representing a line from the file
      */
     private List<String> readLinesFromFile() {
-        try {
-            return Files.readAllLines(dataFilePath);
-        } catch (IOException e) {
-            throw new TopCardException("Cannot Read data file. " + e.getMessage());
-        }
+        return PlayerCsv.readLines(dataFilePath);
     }
 
     /**
@@ -260,15 +321,7 @@ public class PlayerService implements IPlayerService {
      * @param lines  the lines to be written
      */
     private void writeLinesToFile(List<String> lines) {
-        // Append new lines to the file
-        try (BufferedWriter writer = Files.newBufferedWriter(dataFilePath, StandardOpenOption.TRUNCATE_EXISTING)) {
-            for (String line : lines) {
-                writer.write(line);
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            throw new TopCardException("Error writing to player data file: " + e.getMessage(), e);
-        }
+        PlayerCsv.writeLines(dataFilePath, lines);
     }
 
     /**
@@ -278,7 +331,7 @@ public class PlayerService implements IPlayerService {
      * @return an array of strings resulting from the split
      */
     private String[] splitLine(String line) {
-        return line.split("[,\\s]+");
+        return PlayerCsv.splitLine(line);
     }
 
     /**
@@ -288,23 +341,7 @@ public class PlayerService implements IPlayerService {
      * @return the parsed integer value
      */
     private int parseInt(String value) {
-        return Integer.parseInt(value.trim());
-    }
-
-    /**
-     * Finds a player based on a provided predicate.
-     *
-     * @param predicate the condition to match
-     * @return the matching player, or null if not found
-     */
-    private Player findPlayer(LinePredicate predicate) {
-        List<String> lines = readLinesFromFile();
-        for (String line : lines) {
-            if (predicate.test(line)) {
-                return csvStringToPlayer(line);
-            }
-        }
-        return null;
+        return PlayerCsv.parseInt(value);
     }
 
     /**
@@ -314,12 +351,7 @@ public class PlayerService implements IPlayerService {
      * @return the Player object
      */
     private Player csvStringToPlayer(String line) {
-        String[] parts = splitLine(line);
-        Player player = new Player(parts[1], parts[2], parts[3], parts[4], LocalDate.parse(parts[5]));
-        player.setPlayerId(parseInt(parts[0]));
-        player.setPoints(parseInt(parts[6]));
-        player.setAdmin(Boolean.parseBoolean(parts[7]));
-        return player;
+        return PlayerCsv.toPlayer(line);
     }
 
     /**
@@ -329,16 +361,6 @@ public class PlayerService implements IPlayerService {
      * @return the CSV string representing the player
      */
     private String playerToCsvString(Player player) {
-        return String.join(",", String.valueOf(player.getPlayerId()), player.getUsername(), player.getPassword(),
-                player.getFirstName(), player.getLastName(), player.getDateOfBirth().toString(),
-                String.valueOf(player.getPoints()), String.valueOf(player.isAdmin()));
-    }
-
-    /**
-     * A functional interface for evaluating conditions on lines from the players.csv file.
-     */
-    @FunctionalInterface
-    private interface LinePredicate {
-        boolean test(String line);
+        return PlayerCsv.toCsv(player);
     }
 }
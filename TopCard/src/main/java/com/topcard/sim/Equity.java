@@ -0,0 +1,89 @@
+package com.topcard.sim;
+
+/**
+ * The Equity class holds the chances of a hand against the rest of the table, as computed
+ * by {@link EquityCalculator}: exact, or estimated from sampled deals by
+ * {@link EquityCalculator#estimate(com.topcard.domain.Card...)}.
+ * <p>
+ * A win means the hand is the only strongest hand of the table, a tie that it shares the win with
+ * other players, as in {@link com.topcard.domain.Game#determineWinner()}, and a loss that another
+ * hand is stronger. The three probabilities add up to 1.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class Equity {
+
+    private final double win;
+    private final double tie;
+    private final boolean exact;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs an Equity.
+     *
+     * @param win          the probability of winning alone
+     * @param tie          the probability of sharing the win
+     * @param exact        true if every deal was enumerated, false if the chances are estimated
+     * @param elapsedNanos the time the calculation took, in nanoseconds
+     */
+    Equity(double win, double tie, boolean exact, long elapsedNanos) {
+        this.win = win;
+        this.tie = tie;
+        this.exact = exact;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the probability that the hand wins alone.
+     *
+     * @return the win probability
+     */
+    public double getWin() {
+        return win;
+    }
+
+    /**
+     * Returns the probability that the hand shares the win with other hands.
+     *
+     * @return the tie probability
+     */
+    public double getTie() {
+        return tie;
+    }
+
+    /**
+     * Returns the probability that another hand is stronger.
+     *
+     * @return the loss probability
+     */
+    public double getLoss() {
+        return Math.max(0, 1 - win - tie);
+    }
+
+    /**
+     * Returns whether the chances are exact, rather than estimated from sampled deals.
+     *
+     * @return true if every deal was enumerated
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Returns the time the calculation took.
+     *
+     * @return the elapsed time in microseconds
+     */
+    public long getElapsedMicros() {
+        return elapsedNanos / 1_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("win %.6f, tie %.6f, loss %.6f (%s, %d us)", win, tie, getLoss(),
+                exact ? "exact" : "estimated", getElapsedMicros());
+    }
+}
@@ -0,0 +1,229 @@
+package com.topcard.sim;
+
+import com.topcard.debug.Debug;
+import com.topcard.domain.CardCodes;
+import com.topcard.domain.Deck;
+import com.topcard.domain.Game;
+import com.topcard.domain.HandEvaluator;
+import com.topcard.domain.Player;
+import com.topcard.domain.Settlement;
+import com.topcard.domain.ShuffleStrategy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The MonteCarloSimulator class plays many TopCard rounds without a user interface and reports how
+ * each seat fares.
+ * <p>
+ * Every round runs the real rules of {@link Game}: the dealt cards are shuffled and dealt with
+ * {@link Game#startGame()}, the winners are found by strength key like {@link Game#determineWinner()}
+ * and the points are settled like {@link Game#betAndUpdatePlayerPoints(int, List)}, seat 0 being the
+ * main player. The game, its deck and its players are created once and reused for every round, so a
+ * round only shuffles the cards it deals and scores each hand once with a table lookup.
+ * </p>
+ * <p>
+ * The winners and the points of a round are written into arrays owned by the simulator, with
+ * {@link HandEvaluator#markWinners(List, boolean[])} and
+ * {@link Settlement#computeAgainstMainPlayer(int, List, int[])}, instead of the lists and the
+ * settlement the game returns, so a round allocates nothing.
+ * </p>
+ * <p>
+ * The deck is shuffled from a seed, so the same seed plays the same rounds. {@link #run(long)} plays
+ * on the simulator's own table and is meant for one thread at a time.
+ * </p>
+ * <p>
+ * {@link #runParallel(long, ForkJoinPool)} splits the rounds into chunks of {@link #CHUNK_ROUNDS} played
+ * by fork/join workers. Deck, Game and Player are mutable, so nothing is shared between workers: each
+ * chunk is played on its own table, with its own deck and seed, into its own statistics, and the
+ * statistics are merged when the workers join. The chunk seeds are drawn from the simulator's seed,
+ * so a parallel run gives the same result whatever the number of threads.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class MonteCarloSimulator {
+
+    /**
+     * Number of rounds each fork/join worker plays on one table.
+     */
+    static final int CHUNK_ROUNDS = 1 << 16;
+
+    private final int numOfPlayers;
+    private final int numOfCards;
+    private final int betPoints;
+    private final List<Player> players;
+    private final Game game;
+    private final long seed;
+    private final boolean[] won;
+    private final int[] deltas;
+
+    /**
+     * Constructs a simulator for a table.
+     *
+     * @param numOfPlayers the number of players at the table, at least 2
+     * @param numOfCards   the number of cards dealt to each player
+     * @param betPoints    the points bet in every round, at least 1
+     * @param seed         the seed of the shuffle
+     * @throws IllegalArgumentException if the table cannot be dealt from one deck or the bet is not positive
+     */
+    public MonteCarloSimulator(int numOfPlayers, int numOfCards, int betPoints, long seed) {
+        if (numOfPlayers < 2 || numOfCards < 1 || numOfPlayers * numOfCards > CardCodes.NUM_OF_CODES) {
+            throw new IllegalArgumentException("Cannot deal " + numOfCards + " cards to " + numOfPlayers + " players");
+        }
+        if (betPoints < 1) {
+            throw new IllegalArgumentException("Invalid bet: " + betPoints);
+        }
+        this.numOfPlayers = numOfPlayers;
+        this.numOfCards = numOfCards;
+        this.betPoints = betPoints;
+        this.players = new ArrayList<>(numOfPlayers);
+        for (int seat = 0; seat < numOfPlayers; seat++) {
+            Player player = new Player("seat" + seat, null, "Seat", String.valueOf(seat), LocalDate.now());
+            player.setPlayerId(seat);
+            player.setNumOfCards(numOfCards);
+            players.add(player);
+        }
+        this.game = new Game(players, new Deck(ShuffleStrategy.seeded(seed)));
+        this.seed = seed;
+        this.won = new boolean[numOfPlayers];
+        this.deltas = new int[numOfPlayers];
+    }
+
+    /**
+     * Plays rounds and collects the statistics of every seat.
+     *
+     * @param rounds the number of rounds to play
+     * @return the result of the run
+     */
+    public SimulationResult run(long rounds) {
+        long start = System.nanoTime();
+        SeatStatistics[] seats = play(rounds);
+        SimulationResult result = new SimulationResult(numOfCards, betPoints, rounds, System.nanoTime() - start, seats);
+        Debug.info("Simulation finished: " + rounds + " rounds");
+        return result;
+    }
+
+    /**
+     * Plays rounds on every core of the common fork/join pool.
+     *
+     * @param rounds the number of rounds to play
+     * @return the result of the run
+     */
+    public SimulationResult runParallel(long rounds) {
+        return runParallel(rounds, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays rounds on the workers of a fork/join pool, each on its own table, and merges their
+     * statistics. This simulator's table is not used, so parallel runs may be started from any thread.
+     *
+     * @param rounds the number of rounds to play
+     * @param pool   the pool to play on
+     * @return the result of the run
+     */
+    public SimulationResult runParallel(long rounds, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        int numOfChunks = (int) ((rounds + CHUNK_ROUNDS - 1) / CHUNK_ROUNDS);
+        long[] chunkSeeds = new long[numOfChunks];
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int chunk = 0; chunk < numOfChunks; chunk++) {
+            chunkSeeds[chunk] = seeds.nextLong();
+        }
+        SeatStatistics[] seats = numOfChunks == 0
+                ? newStatistics()
+                : pool.invoke(new SimulationTask(rounds, chunkSeeds, 0, numOfChunks));
+        SimulationResult result = new SimulationResult(numOfCards, betPoints, rounds, System.nanoTime() - start, seats);
+        Debug.info("Parallel simulation finished: " + rounds + " rounds on " + pool.getParallelism() + " threads");
+        return result;
+    }
+
+    /**
+     * Plays rounds on this simulator's table into new statistics.
+     */
+    private SeatStatistics[] play(long rounds) {
+        SeatStatistics[] seats = newStatistics();
+        for (long round = 0; round < rounds; round++) {
+            playRound(seats);
+        }
+        return seats;
+    }
+
+    private SeatStatistics[] newStatistics() {
+        SeatStatistics[] seats = new SeatStatistics[numOfPlayers];
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat] = new SeatStatistics(seat, numOfPlayers, betPoints);
+        }
+        return seats;
+    }
+
+    /**
+     * Plays one round and records what each seat won or lost.
+     */
+    private void playRound(SeatStatistics[] seats) {
+        game.startGame();
+        boolean shared = HandEvaluator.markWinners(players, won) > 1;
+        Settlement.computeAgainstMainPlayer(betPoints, players, deltas);
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat].record(deltas[seat], won[seat], shared);
+        }
+    }
+
+    /**
+     * Plays a range of chunks, splitting it in halves until each task plays a single chunk on a
+     * table of its own.
+     */
+    private final class SimulationTask extends RecursiveTask<SeatStatistics[]> {
+
+        private final long rounds;
+        private final long[] chunkSeeds;
+        private final int firstChunk;
+        private final int endChunk;
+
+        SimulationTask(long rounds, long[] chunkSeeds, int firstChunk, int endChunk) {
+            this.rounds = rounds;
+            this.chunkSeeds = chunkSeeds;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+        }
+
+        @Override
+        protected SeatStatistics[] compute() {
+            if (endChunk - firstChunk == 1) {
+                long chunkRounds = Math.min(CHUNK_ROUNDS, rounds - (long) firstChunk * CHUNK_ROUNDS);
+                return new MonteCarloSimulator(numOfPlayers, numOfCards, betPoints, chunkSeeds[firstChunk])
+                        .play(chunkRounds);
+            }
+            int middle = (firstChunk + endChunk) >>> 1;
+            SimulationTask second = new SimulationTask(rounds, chunkSeeds, middle, endChunk);
+            second.fork();
+            SeatStatistics[] seats = new SimulationTask(rounds, chunkSeeds, firstChunk, middle).compute();
+            SeatStatistics[] secondSeats = second.join();
+            for (int seat = 0; seat < seats.length; seat++) {
+                seats[seat].merge(secondSeats[seat]);
+            }
+            return seats;
+        }
+    }
+
+    /**
+     * Runs a simulation from the command line and prints the report.
+     *
+     * @param args number of players, number of cards, bet, rounds and seed; all optional.
+     *             Rounds are played on every core.
+     */
+    public static void main(String[] args) {
+        int numOfPlayers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int numOfCards = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int betPoints = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        long rounds = args.length > 3 ? Long.parseLong(args[3]) : 10_000_000L;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+        System.out.println(new MonteCarloSimulator(numOfPlayers, numOfCards, betPoints, seed).runParallel(rounds));
+    }
+}
@@ -0,0 +1,180 @@
+package com.topcard.sim;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The SeatStatistics class accumulates the outcome of every simulated round for one seat of the table.
+ * <p>
+ * Seat 0 is the main player who bets against every other seat, as in
+ * {@link com.topcard.domain.Game#betAndUpdatePlayerPoints(int, java.util.List)}. The points a seat wins
+ * or loses in a round are always a multiple of the bet, from -(players - 1) to +(players - 1) bets, so
+ * their distribution is kept as a small array of counts indexed by the number of bets won. Recording a
+ * round is a handful of additions and never allocates.
+ * </p>
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class SeatStatistics {
+
+    private final int seat;
+    private final int betPoints;
+    private final int maxBets;
+    private final long[] roundsByBetsWon; // index is the number of bets won + maxBets
+    private long rounds;
+    private long wins;
+    private long sharedWins;
+    private long totalPoints;
+    private double sumOfSquares;
+
+    /**
+     * Constructs empty statistics for a seat.
+     *
+     * @param seat         the seat, 0 for the main player
+     * @param numOfPlayers the number of players at the table
+     * @param betPoints    the points bet in every round
+     */
+    SeatStatistics(int seat, int numOfPlayers, int betPoints) {
+        this.seat = seat;
+        this.betPoints = betPoints;
+        this.maxBets = numOfPlayers - 1;
+        this.roundsByBetsWon = new long[2 * maxBets + 1];
+    }
+
+    /**
+     * Records the outcome of one round.
+     *
+     * @param points the points won in the round, negative when lost
+     * @param won    true if the seat was among the winners of the round
+     * @param shared true if the seat shared the win with other seats
+     */
+    void record(int points, boolean won, boolean shared) {
+        rounds++;
+        if (won) {
+            wins++;
+            if (shared) {
+                sharedWins++;
+            }
+        }
+        totalPoints += points;
+        sumOfSquares += (double) points * points;
+        roundsByBetsWon[points / betPoints + maxBets]++;
+    }
+
+    /**
+     * Adds the rounds recorded by other statistics of the same seat, bet and table size,
+     * such as the ones of another simulation worker.
+     *
+     * @param other the statistics to add
+     */
+    void merge(SeatStatistics other) {
+        rounds += other.rounds;
+        wins += other.wins;
+        sharedWins += other.sharedWins;
+        totalPoints += other.totalPoints;
+        sumOfSquares += other.sumOfSquares;
+        for (int i = 0; i < roundsByBetsWon.length; i++) {
+            roundsByBetsWon[i] += other.roundsByBetsWon[i];
+        }
+    }
+
+    /**
+     * Returns the seat these statistics belong to.
+     *
+     * @return the seat, 0 for the main player
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Returns the number of rounds recorded.
+     *
+     * @return the number of rounds
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of rounds the seat won, alone or shared.
+     *
+     * @return the number of wins
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Returns the number of rounds the seat won together with other seats.
+     *
+     * @return the number of shared wins
+     */
+    public long getSharedWins() {
+        return sharedWins;
+    }
+
+    /**
+     * Returns the share of rounds the seat won, alone or shared.
+     *
+     * @return the win rate, 0 to 1
+     */
+    public double getWinRate() {
+        return rounds == 0 ? 0 : (double) wins / rounds;
+    }
+
+    /**
+     * Returns the net points won by the seat over all rounds.
+     *
+     * @return the total points, negative when lost
+     */
+    public long getTotalPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * Returns the expected value of a round for the seat, the mean points won per round.
+     *
+     * @return the expected points per round
+     */
+    public double getExpectedValue() {
+        return rounds == 0 ? 0 : (double) totalPoints / rounds;
+    }
+
+    /**
+     * Returns the standard deviation of the points won per round.
+     *
+     * @return the standard deviation
+     */
+    public double getStandardDeviation() {
+        if (rounds == 0) {
+            return 0;
+        }
+        double mean = getExpectedValue();
+        return Math.sqrt(Math.max(0, sumOfSquares / rounds - mean * mean));
+    }
+
+    /**
+     * Returns the distribution of the points won per round.
+     *
+     * @return the number of rounds for each points outcome that occurred, by increasing points
+     */
+    public SortedMap<Integer, Long> getPointDistribution() {
+        SortedMap<Integer, Long> distribution = new TreeMap<>();
+        for (int i = 0; i < roundsByBetsWon.length; i++) {
+            if (roundsByBetsWon[i] > 0) {
+                distribution.put((i - maxBets) * betPoints, roundsByBetsWon[i]);
+            }
+        }
+        return Collections.unmodifiableSortedMap(distribution);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Seat %d: win rate %.4f (%d shared), EV %+.4f, sd %.4f, points %s",
+                seat, getWinRate(), sharedWins, getExpectedValue(), getStandardDeviation(), getPointDistribution());
+    }
+}
@@ -0,0 +1,122 @@
+package com.topcard.sim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The SimulationResult class holds the statistics of every seat after a simulation run.
+ * <p>
+ * Author: Rajesh Rajchal
+ * Date: 10/18/2026
+ * </p>
+ */
+public final class SimulationResult {
+
+    private final int numOfCards;
+    private final int betPoints;
+    private final long rounds;
+    private final long elapsedNanos;
+    private final List<SeatStatistics> seats;
+
+    /**
+     * Constructs a SimulationResult.
+     *
+     * @param numOfCards   the number of cards dealt to each player
+     * @param betPoints    the points bet in every round
+     * @param rounds       the number of rounds played
+     * @param elapsedNanos the time the run took, in nanoseconds
+     * @param seats        the statistics of each seat, seat 0 first
+     */
+    SimulationResult(int numOfCards, int betPoints, long rounds, long elapsedNanos, SeatStatistics[] seats) {
+        this.numOfCards = numOfCards;
+        this.betPoints = betPoints;
+        this.rounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+        this.seats = Collections.unmodifiableList(Arrays.asList(seats));
+    }
+
+    /**
+     * Returns the number of players at the table.
+     *
+     * @return the number of seats
+     */
+    public int getNumOfPlayers() {
+        return seats.size();
+    }
+
+    /**
+     * Returns the number of cards dealt to each player.
+     *
+     * @return the number of cards per hand
+     */
+    public int getNumOfCards() {
+        return numOfCards;
+    }
+
+    /**
+     * Returns the points bet in every round.
+     *
+     * @return the bet
+     */
+    public int getBetPoints() {
+        return betPoints;
+    }
+
+    /**
+     * Returns the number of rounds played.
+     *
+     * @return the number of rounds
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns the statistics of one seat.
+     *
+     * @param seat the seat, 0 for the main player
+     * @return the statistics of the seat
+     */
+    public SeatStatistics getSeat(int seat) {
+        return seats.get(seat);
+    }
+
+    /**
+     * Returns the statistics of every seat.
+     *
+     * @return the seats, seat 0 first
+     */
+    public List<SeatStatistics> getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the time the run took.
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Returns the simulation throughput.
+     *
+     * @return the number of rounds played per second
+     */
+    public double getRoundsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rounds * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format(
+                "%d rounds of %d players, %d cards, bet %d in %d ms (%.0f rounds/s)",
+                rounds, getNumOfPlayers(), numOfCards, betPoints, getElapsedMillis(), getRoundsPerSecond()));
+        for (SeatStatistics seat : seats) {
+            report.append(System.lineSeparator()).append(seat);
+        }
+        return report.toString();
+    }
+}
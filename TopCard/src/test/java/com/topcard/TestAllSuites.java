@@ -1,13 +1,16 @@
 package com.topcard;
 
 import com.topcard.business.TestBusinessTestSuite;
+import com.topcard.config.AllConfigTestsSuite;
 import com.topcard.service.AllServiceTestsSuite;
 import com.topcard.domain.AllDomainTestsSuite;
+import com.topcard.sim.AllSimulationTestsSuite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({AllServiceTestsSuite.class, AllDomainTestsSuite.class, TestBusinessTestSuite.class})
+@Suite.SuiteClasses({AllServiceTestsSuite.class, AllDomainTestsSuite.class, TestBusinessTestSuite.class,
+        AllSimulationTestsSuite.class, AllConfigTestsSuite.class})
 public class TestAllSuites {
 
 }
@@ -0,0 +1,68 @@
+package com.topcard.business;
+
+import com.topcard.domain.Card;
+import com.topcard.domain.Player;
+import com.topcard.service.player.PlayerService;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class GameSessionTest {
+
+    private GameSession session;
+    private List<Player> players;
+
+    @Before
+    public void setUp() {
+        players = new ArrayList<>();
+        players.add(new Player("mickey", "password", "Mickey", "Mouse", LocalDate.of(1990, 1, 1)));
+        players.add(new Player("donald", "password", "Donald", "Duck", LocalDate.of(1995, 6, 15)));
+        players.add(new Player("michael", "password", "Michael", "Smith", LocalDate.of(1985, 11, 25)));
+        players.add(new Player("rajesh", "password", "Rajesh", "Rajchal", LocalDate.of(1980, 4, 10)));
+        session = new GameSession(players);
+    }
+
+    @Test
+    public void testRoundsAreNumberedAndDealDistinctCards() {
+        for (int number = 1; number <= 5; number++) {
+            GameRound round = session.nextRound(10);
+            assertEquals(number, round.getNumber());
+            assertEquals(players.size(), round.getNumOfSeats());
+            assertFalse(round.getWinners().isEmpty());
+
+            Set<Card> dealt = new HashSet<>();
+            for (int seat = 0; seat < round.getNumOfSeats(); seat++) {
+                for (Card card : round.getHand(seat)) {
+                    assertTrue(dealt.add(card));
+                }
+            }
+        }
+        assertEquals(5, session.getRoundsPlayed());
+    }
+
+    @Test
+    public void testRoundKeepsItsHandsAfterTheNextRound() {
+        GameRound first = session.nextRound(10);
+        Card[] firstHand = first.getHand(0);
+        session.nextRound(10);
+        assertArrayEquals(firstHand, first.getHand(0));
+    }
+
+    @Test
+    public void testStoredRoundsMatchSessionPoints() {
+        PlayerService playerService = new PlayerService();
+        for (int round = 0; round < 3; round++) {
+            session.storeRound(session.nextRound(10));
+        }
+        for (Player player : session.getPlayers()) {
+            assertEquals(player.getPoints(), playerService.retrievePointForPlayer(player.getPlayerId()));
+        }
+    }
+}
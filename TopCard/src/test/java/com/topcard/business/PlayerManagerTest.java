@@ -10,6 +10,8 @@ import java.lang.reflect.Method;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -138,6 +140,18 @@ public class PlayerManagerTest {
         assertEquals(players, result);
     }
 
+    @Test
+    public void testAuthenticateAsync() throws Exception {
+        playerManager.addPlayers(generatePlayers());
+        CompletableFuture<Boolean> valid = playerManager.authenticateAsync("mickey", "password");
+        CompletableFuture<Boolean> wrongPassword = playerManager.authenticateAsync("mickey", "wrong");
+        CompletableFuture<Boolean> unknownUser = playerManager.authenticateAsync("goofy", "password");
+        assertTrue(valid.get(10, TimeUnit.SECONDS));
+        assertFalse(wrongPassword.get(10, TimeUnit.SECONDS));
+        assertFalse(unknownUser.get(10, TimeUnit.SECONDS));
+        assertFalse(playerManager.authenticate("mickey", ""));
+    }
+
     @Test
     public void testDeleteAllPlayersData() {
         // Use reflection to call the private deleteAllPlayersData() method
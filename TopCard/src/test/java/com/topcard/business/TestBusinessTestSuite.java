@@ -9,7 +9,8 @@ import org.junit.runners.Suite;
  * business layer test classes in the application.
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({PlayerManagerTest.class, CardManagerTest.class, GameManagerTest.class})
+@Suite.SuiteClasses({PlayerManagerTest.class, CardManagerTest.class, GameManagerTest.class,
+        GameSessionTest.class})
 public class TestBusinessTestSuite {
 
-}
\ No newline at end of file
+}
\ No newline at end of file
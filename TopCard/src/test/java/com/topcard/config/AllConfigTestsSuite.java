@@ -0,0 +1,14 @@
+package com.topcard.config;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * The AllConfigTestsSuite class is a test suite that groups together all
+ * configuration test classes in the application.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({TopCardConfigTest.class})
+public class AllConfigTestsSuite {
+    // This class remains empty. Nothing needs to be written.
+}
@@ -0,0 +1,105 @@
+package com.topcard.config;
+
+import com.topcard.domain.Player;
+import com.topcard.service.factory.ServiceFactory;
+import com.topcard.service.player.IPlayerService;
+import com.topcard.service.player.IndexedPlayerService;
+import com.topcard.service.player.PlayerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopCardConfigTest {
+
+    private static final String PLAYER_STORE_PROPERTY = "topcard." + TopCardConfig.PLAYER_STORE;
+
+    private Path configDir;
+
+    @Before
+    public void setUp() throws IOException {
+        configDir = Files.createTempDirectory("config");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        System.clearProperty(PLAYER_STORE_PROPERTY);
+        try (Stream<Path> files = Files.walk(configDir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultsWithoutConfigFile() {
+        TopCardConfig config = TopCardConfig.load(configDir.resolve("missing.properties"));
+        assertEquals(Path.of("data", "players.csv"), config.getDataFilePath());
+        assertEquals(Path.of("data", "players.bin"), config.getBinaryFilePath());
+        assertEquals("csv", config.getPlayerStore());
+        assertFalse(config.isDebugMode());
+    }
+
+    @Test
+    public void testLoadConfigFile() throws IOException {
+        Path configFile = configDir.resolve("config.properties");
+        Files.writeString(configFile, "FILE_PATH=tables/one.csv\nPLAYER_STORE = indexed \ndebug.mode=true\n");
+
+        TopCardConfig config = TopCardConfig.load(configFile);
+        assertEquals(Path.of("tables", "one.csv"), config.getDataFilePath());
+        assertEquals(Path.of("data", "players.bin"), config.getBinaryFilePath());
+        assertEquals("indexed", config.getPlayerStore());
+        assertTrue(config.isDebugMode());
+    }
+
+    @Test
+    public void testSystemPropertyOverridesConfigFile() throws IOException {
+        Path configFile = configDir.resolve("config.properties");
+        Files.writeString(configFile, "PLAYER_STORE=indexed\n");
+        System.setProperty(PLAYER_STORE_PROPERTY, "binary");
+
+        assertEquals("binary", TopCardConfig.load(configFile).getPlayerStore());
+        System.clearProperty(PLAYER_STORE_PROPERTY);
+        assertEquals("indexed", TopCardConfig.load(configFile).getPlayerStore());
+    }
+
+    @Test
+    public void testConfigIsImmutable() {
+        TopCardConfig config = TopCardConfig.of(Map.of(TopCardConfig.PLAYER_STORE, "indexed"));
+        TopCardConfig changed = config.with(TopCardConfig.PLAYER_STORE, "binary");
+        assertEquals("indexed", config.getPlayerStore());
+        assertEquals("binary", changed.getPlayerStore());
+        assertEquals(config.getDataFilePath(), changed.getDataFilePath());
+    }
+
+    @Test
+    public void testStoresOfDifferentConfigs() throws IOException {
+        Path firstFile = Files.createFile(configDir.resolve("first.csv"));
+        Path secondFile = Files.createFile(configDir.resolve("second.csv"));
+        TopCardConfig first = TopCardConfig.of(Map.of(TopCardConfig.FILE_PATH, firstFile.toString()));
+        TopCardConfig second = first.with(TopCardConfig.FILE_PATH, secondFile.toString())
+                .with(TopCardConfig.PLAYER_STORE, ServiceFactory.INDEXED_PLAYER_STORE);
+
+        IPlayerService firstStore = ServiceFactory.createPlayerService(first);
+        IPlayerService secondStore = ServiceFactory.createPlayerService(second);
+        assertEquals(PlayerService.class, firstStore.getClass());
+        assertEquals(IndexedPlayerService.class, secondStore.getClass());
+
+        assertTrue(firstStore.addPlayer(new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18))));
+        assertTrue(secondStore.addPlayer(new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25))));
+
+        assertNotNull(firstStore.getPlayerByUsername("mickey"));
+        assertNull(firstStore.getPlayerByUsername("goofy"));
+        assertNotNull(secondStore.getPlayerByUsername("goofy"));
+        assertNull(secondStore.getPlayerByUsername("mickey"));
+    }
+}
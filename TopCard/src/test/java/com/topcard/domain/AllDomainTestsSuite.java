@@ -9,7 +9,8 @@ import org.junit.runners.Suite;
  *
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({CardTest.class, DeckTest.class, PlayerTest.class, GameTest.class})
+@Suite.SuiteClasses({CardTest.class, DeckTest.class, PlayerTest.class, GameTest.class, CardCodesTest.class,
+        HandEvaluatorTest.class, SettlementTest.class})
 public class AllDomainTestsSuite {
     // This class remains empty. Nothing needs to be written.
 }
@@ -0,0 +1,51 @@
+package com.topcard.domain;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardCodesTest {
+
+    @Test
+    public void testEveryCardHasItsOwnCode() {
+        Set<Integer> codes = new HashSet<>();
+        for (Card.Suit suit : Card.Suit.values()) {
+            for (Card.Rank rank : Card.Rank.values()) {
+                int code = CardCodes.of(suit, rank);
+                assertTrue(code >= 0 && code < CardCodes.NUM_OF_CODES);
+                assertTrue(codes.add(code));
+                assertEquals(new Card(suit, rank), CardCodes.toCard(code));
+                assertEquals(rank.getValue(), CardCodes.value(code));
+                assertEquals(rank.getPrecedence(), CardCodes.precedence(code));
+            }
+        }
+    }
+
+    @Test
+    public void testHandValueMatchesCards() {
+        Card[] cards = {new Card(Card.Suit.HEARTS, Card.Rank.ACE),
+                new Card(Card.Suit.SPADES, Card.Rank.THREE),
+                new Card(Card.Suit.CLUBS, Card.Rank.KING)};
+        long hand = CardCodes.handOf(cards);
+        assertEquals(3, CardCodes.size(hand));
+        assertEquals(new Card().getCardsValue(cards), CardCodes.handValue(hand));
+        assertEquals(14, CardCodes.handValue(new int[]{CardCodes.of(cards[0]), CardCodes.of(cards[1]), CardCodes.of(cards[2])}));
+        assertTrue(CardCodes.contains(hand, CardCodes.of(Card.Suit.CLUBS, Card.Rank.KING)));
+        assertFalse(CardCodes.contains(hand, CardCodes.of(Card.Suit.HEARTS, Card.Rank.KING)));
+        assertArrayEquals(cards, CardCodes.toCards(hand));
+    }
+
+    @Test
+    public void testBestPrecedence() {
+        long kingHigh = CardCodes.handOf(new Card[]{new Card(Card.Suit.HEARTS, Card.Rank.TWO),
+                new Card(Card.Suit.DIAMONDS, Card.Rank.KING)});
+        long aceOnly = CardCodes.add(CardCodes.EMPTY_HAND, CardCodes.of(Card.Suit.SPADES, Card.Rank.ACE));
+        assertEquals(Card.Rank.KING.getPrecedence(), CardCodes.bestPrecedence(kingHigh));
+        assertEquals(Card.Rank.ACE.getPrecedence(), CardCodes.bestPrecedence(aceOnly));
+        assertEquals(Integer.MAX_VALUE, CardCodes.bestPrecedence(CardCodes.EMPTY_HAND));
+        assertEquals(0, CardCodes.handValue(CardCodes.EMPTY_HAND));
+    }
+}
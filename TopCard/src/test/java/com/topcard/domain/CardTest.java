@@ -14,6 +14,22 @@ public class CardTest {
         assertEquals(Card.Rank.ACE, card.getRank());
     }
 
+    @Test
+    public void testSharedCards() {
+        Card card = Card.of(Card.Suit.SPADES, Card.Rank.QUEEN);
+        assertSame(card, Card.of(Card.Suit.SPADES, Card.Rank.QUEEN));
+        assertEquals(new Card(Card.Suit.SPADES, Card.Rank.QUEEN), card);
+        assertSame(card, CardCodes.toCard(CardCodes.of(card)));
+        assertSame(card, cardAt(new Deck(), 50)); // decks hold the shared cards
+    }
+
+    private Card cardAt(Deck deck, int index) {
+        for (int i = 0; i < index; i++) {
+            deck.deal();
+        }
+        return deck.deal();
+    }
+
     @Test
     public void testSuit() {
         assertEquals("HEARTS", Card.Suit.HEARTS.name());
@@ -3,6 +3,9 @@ package com.topcard.domain;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 public class DeckTest {
 
     @Test
@@ -23,6 +26,48 @@ public class DeckTest {
         assertNotEquals(firstCardBeforeShuffle, firstCardAfterShuffle);
     }
 
+    @Test
+    public void testSeededShuffleIsReproducible() {
+        Deck first = new Deck(ShuffleStrategy.seeded(42));
+        Deck second = new Deck(ShuffleStrategy.seeded(42));
+        first.shuffle();
+        second.shuffle();
+        for (int i = 0; i < 52; i++) {
+            assertEquals(first.deal(), second.deal());
+        }
+    }
+
+    @Test
+    public void testPartialShuffleKeepsEveryCard() {
+        Deck deck = new Deck(ShuffleStrategy.seeded(7));
+        Set<Card> dealtFirst = new HashSet<>();
+        for (int round = 0; round < 200; round++) {
+            deck.shuffle(12);
+            Set<Card> cards = new HashSet<>();
+            for (int i = 0; i < 52; i++) {
+                cards.add(deck.deal());
+            }
+            assertEquals(52, cards.size());
+            deck.shuffle(12);
+            dealtFirst.add(deck.deal());
+        }
+        // The first card dealt is drawn from the whole deck
+        assertTrue(dealtFirst.size() > 40);
+    }
+
+    @Test
+    public void testResetRestoresNewDeckOrder() {
+        Deck deck = new Deck();
+        Deck newDeck = new Deck();
+        deck.shuffle();
+        deck.deal();
+        deck.reset();
+        assertEquals(52, deck.getRemainingCards());
+        for (int i = 0; i < 52; i++) {
+            assertSame(newDeck.deal(), deck.deal());
+        }
+    }
+
     @Test
     public void testDeal() {
         Deck deck = new Deck();
@@ -3,8 +3,11 @@ package com.topcard.domain;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.time.LocalDate;
 
 public class GameTest {
@@ -67,4 +70,40 @@ public class GameTest {
         assertEquals(1, winners.size());
         assertEquals(player1, winners.get(0));
     }
+
+    @Test
+    public void testStartGameWithTenSeatsOfFourCards() {
+        List<Player> players = new ArrayList<>();
+        for (int seat = 0; seat < 10; seat++) {
+            Player player = new Player("seat" + seat, "password", "Seat", "Player" + seat, LocalDate.of(2000, 1, 1));
+            player.setNumOfCards(4);
+            player.setPoints(100);
+            players.add(player);
+        }
+        Game tenSeatGame = new Game(players);
+        tenSeatGame.startGame();
+
+        Set<Card> dealt = new HashSet<>();
+        for (Card[] hand : tenSeatGame.getHands()) {
+            assertEquals(4, hand.length);
+            dealt.addAll(Arrays.asList(hand));
+        }
+        assertEquals(40, dealt.size());
+        assertFalse(tenSeatGame.determineWinner().isEmpty());
+
+        tenSeatGame.betAndUpdatePlayerPoints(10, players);
+        int totalPoints = 0;
+        for (Player player : players) {
+            totalPoints += player.getPoints();
+        }
+        assertEquals(1000, totalPoints);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStartGameWithMoreCardsThanTheDeck() {
+        player1.setNumOfCards(20);
+        player2.setNumOfCards(20);
+        player3.setNumOfCards(20);
+        game.startGame();
+    }
 }
@@ -0,0 +1,94 @@
+package com.topcard.domain;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandEvaluatorTest {
+
+    @Test
+    public void testTableMatchesComputedStrength() {
+        Random random = new Random(42);
+        for (int numOfCards = 1; numOfCards <= HandEvaluator.MAX_TABLE_CARDS + 1; numOfCards++) {
+            HandEvaluator evaluator = HandEvaluator.forCards(numOfCards);
+            assertSame(evaluator, HandEvaluator.forCards(numOfCards));
+            for (int round = 0; round < 1000; round++) {
+                Card[] hand = deal(random, numOfCards).get(0);
+                int strength = evaluator.strength(hand);
+                assertEquals(HandEvaluator.computeStrength(hand), strength);
+                assertEquals(HandEvaluator.strength(CardCodes.handOf(hand)), strength);
+                assertEquals(Card.valueOf(hand), HandEvaluator.handValue(strength));
+            }
+        }
+    }
+
+    @Test
+    public void testStrengthPacksValueAndBestCard() {
+        Card[] kingHigh = {new Card(Card.Suit.HEARTS, Card.Rank.KING), new Card(Card.Suit.CLUBS, Card.Rank.TWO),
+                new Card(Card.Suit.SPADES, Card.Rank.THREE)};
+        Card[] nineHigh = {new Card(Card.Suit.HEARTS, Card.Rank.NINE), new Card(Card.Suit.CLUBS, Card.Rank.FIVE),
+                new Card(Card.Suit.SPADES, Card.Rank.ACE)};
+        HandEvaluator evaluator = HandEvaluator.forCards(3);
+        assertEquals(15, HandEvaluator.handValue(evaluator.strength(kingHigh)));
+        assertEquals(Card.Rank.KING.getPrecedence(), HandEvaluator.bestPrecedence(evaluator.strength(kingHigh)));
+        // Same total, the king beats the nine
+        assertTrue(evaluator.strength(kingHigh) > evaluator.strength(nineHigh));
+        assertThrows(IllegalArgumentException.class, () -> HandEvaluator.forCards(0));
+    }
+
+    @Test
+    public void testWinnersMatchValueThenCardRankings() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2000; round++) {
+            List<Player> players = new ArrayList<>();
+            for (Card[] hand : deal(random, 3)) {
+                Player player = new Player("p" + players.size(), "pw", "F", "L", LocalDate.of(1990, 1, 1));
+                player.setHand(hand);
+                players.add(player);
+            }
+            Game game = new Game(players);
+            assertEquals(legacyWinners(game, players), game.determineWinner());
+        }
+    }
+
+    /**
+     * The rules as Game.determineWinner applied them before: the highest total, then the best card.
+     */
+    private List<Player> legacyWinners(Game game, List<Player> players) {
+        int highestValue = 0;
+        for (Player player : players) {
+            highestValue = Math.max(highestValue, Card.valueOf(player.getHand()));
+        }
+        List<Player> winners = new ArrayList<>();
+        for (Player player : players) {
+            if (Card.valueOf(player.getHand()) == highestValue) {
+                winners.add(player);
+            }
+        }
+        return winners.size() > 1 ? game.determineWinnerByCardRankings(winners) : winners;
+    }
+
+    /**
+     * Deals four hands of the given size from a shuffled deck.
+     */
+    private List<Card[]> deal(Random random, int numOfCards) {
+        List<Card> cards = new ArrayList<>();
+        for (Card.Suit suit : Card.Suit.values()) {
+            for (Card.Rank rank : Card.Rank.values()) {
+                cards.add(new Card(suit, rank));
+            }
+        }
+        Collections.shuffle(cards, random);
+        List<Card[]> hands = new ArrayList<>();
+        for (int seat = 0; seat < 4; seat++) {
+            hands.add(cards.subList(seat * numOfCards, (seat + 1) * numOfCards).toArray(new Card[0]));
+        }
+        return hands;
+    }
+}
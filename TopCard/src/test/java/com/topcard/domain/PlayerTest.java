@@ -29,6 +29,15 @@ public class PlayerTest {
         assertEquals(3, player.getHand().length);
     }
 
+    @Test
+    public void testSetNumOfCardsResizesHand() {
+        Player player = new Player("", "", "Donald", "Duck", LocalDate.of(1995, 6, 15));
+        assertEquals(3, player.getHand().length);
+        player.setNumOfCards(5);
+        assertEquals(5, player.drawCards(new Deck()).length);
+        assertEquals(5, player.getHand().length);
+    }
+
     @Test
     public void testSetAdmin() {
         Player player = new Player("", "", "Donald", "Duck", LocalDate.of(1995, 6, 15));
@@ -155,6 +164,25 @@ public class PlayerTest {
         assertEquals(90, player3.getPoints());
     }
 
+    @Test
+    public void testHandValueFollowsHandChanges() {
+        Player player = new Player("username1", "password", "firstName1", "lastName1", LocalDate.of(2000, 1, 1));
+        player.setHand(new Card[] {
+                new Card(Card.Suit.SPADES, Card.Rank.KING),
+                new Card(Card.Suit.HEARTS, Card.Rank.TWO),
+                new Card(Card.Suit.CLUBS, Card.Rank.ACE)
+        });
+        assertEquals(13, player.getHandValue());
+        assertEquals(13, player.getHandValue());
+
+        player.setHand(new Card[] {new Card(Card.Suit.SPADES, Card.Rank.NINE), null, null});
+        assertEquals(9, player.getHandValue());
+
+        Deck deck = new Deck();
+        Card[] hand = player.drawCards(deck);
+        assertEquals(Card.valueOf(hand), player.getHandValue());
+    }
+
     @Test
     public void testDefalutPoint() {
         List<Player> players = generatePlayers();
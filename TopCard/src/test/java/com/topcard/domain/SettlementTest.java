@@ -0,0 +1,105 @@
+package com.topcard.domain;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SettlementTest {
+
+    @Test
+    public void testAgainstMainPlayerMatchesUpdatePoints() {
+        for (int round = 0; round < 200; round++) {
+            List<Player> players = dealTable(4, 3, round);
+            List<Player> copies = dealTable(4, 3, round);
+            copies.get(0).updatePoints(10, copies.subList(1, copies.size()));
+
+            Settlement settlement = Settlement.againstMainPlayer(10, players);
+            for (int seat = 0; seat < players.size(); seat++) {
+                assertEquals(copies.get(seat).getPoints() - 100, settlement.getDelta(seat));
+                assertEquals(100, players.get(seat).getPoints()); // not applied yet
+            }
+            settlement.apply();
+            for (int seat = 0; seat < players.size(); seat++) {
+                assertEquals(copies.get(seat).getPoints(), players.get(seat).getPoints());
+            }
+        }
+    }
+
+    @Test
+    public void testComputeAgainstMainPlayerReusesArrays() {
+        int[] deltas = new int[8];
+        boolean[] won = new boolean[8];
+        for (int round = 0; round < 200; round++) {
+            List<Player> players = dealTable(2 + round % 7, 3, round);
+            Settlement.computeAgainstMainPlayer(10, players, deltas);
+            int numOfWinners = HandEvaluator.markWinners(players, won);
+
+            Settlement settlement = Settlement.againstMainPlayer(10, players);
+            List<Player> winners = HandEvaluator.winners(players);
+            assertEquals(winners.size(), numOfWinners);
+            for (int seat = 0; seat < players.size(); seat++) {
+                assertEquals(settlement.getDelta(seat), deltas[seat]);
+                assertEquals(winners.contains(players.get(seat)), won[seat]);
+            }
+        }
+    }
+
+    @Test
+    public void testAllPairsMatchesPairwiseComparisons() {
+        for (int round = 0; round < 200; round++) {
+            // 52 one-card hands share strengths, so most rounds have ties
+            List<Player> players = dealTable(round % 2 == 0 ? 52 : 13, round % 2 == 0 ? 1 : 4, round);
+            Settlement settlement = Settlement.allPairs(5, players);
+            int total = 0;
+            for (int seat = 0; seat < players.size(); seat++) {
+                int expected = 0;
+                int strength = players.get(seat).getHandStrength();
+                for (Player other : players) {
+                    expected += Integer.signum(strength - other.getHandStrength()) * 5;
+                }
+                assertEquals(expected, settlement.getDelta(seat));
+                total += settlement.getDelta(seat);
+            }
+            assertEquals(0, total);
+        }
+    }
+
+    @Test
+    public void testPointDeltasByPlayerId() {
+        List<Player> players = dealTable(6, 3, 7);
+        Settlement settlement = Settlement.allPairs(10, players);
+        Map<Integer, Integer> pointDeltas = settlement.getPointDeltas();
+        for (int seat = 0; seat < players.size(); seat++) {
+            assertEquals(settlement.getDelta(seat), pointDeltas.getOrDefault(players.get(seat).getPlayerId(), 0));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> pointDeltas.put(0, 1));
+    }
+
+    @Test
+    public void testBetAndUpdatePlayerPointsReturnsMainPlayerLast() {
+        List<Player> players = dealTable(4, 3, 11);
+        Game game = new Game(players);
+        List<Player> updatedPlayers = game.betAndUpdatePlayerPoints(10, players);
+        assertEquals(4, updatedPlayers.size());
+        assertSame(players.get(0), updatedPlayers.get(3));
+        assertSame(players.get(1), updatedPlayers.get(0));
+    }
+
+    private List<Player> dealTable(int numOfPlayers, int numOfCards, long seed) {
+        List<Player> players = new ArrayList<>();
+        for (int seat = 0; seat < numOfPlayers; seat++) {
+            Player player = new Player("seat" + seat, "password", "Seat", "Player" + seat, LocalDate.of(2000, 1, 1));
+            player.setPlayerId(seat + 1);
+            player.setPoints(100);
+            player.setNumOfCards(numOfCards);
+            players.add(player);
+        }
+        new Game(players, new Deck(ShuffleStrategy.seeded(seed))).startGame();
+        return players;
+    }
+}
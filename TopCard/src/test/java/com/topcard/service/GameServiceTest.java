@@ -11,10 +11,12 @@ import org.junit.Test;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.time.LocalDate;
 import com.topcard.domain.Player;
+import com.topcard.domain.Settlement;
 
 public class GameServiceTest {
 
@@ -78,5 +80,54 @@ public class GameServiceTest {
         gameService.updateProfiles(updatedPlayers);
     }
 
-}
+    @Test
+    public void testBettingRoundIsStored() {
+        gameService.startGame();
+        List<Player> players = new ArrayList<>(gameService.getPlayers());
+        List<Player> updatedPlayers = gameService.executeBettingRound(10);
+
+        // The other players first, the main player last
+        assertSame(players.get(0), updatedPlayers.get(updatedPlayers.size() - 1));
+        assertSame(players.get(1), updatedPlayers.get(0));
+        for (Player player : updatedPlayers) {
+            assertEquals(player.getPoints(), playerService.retrievePointForPlayer(player.getPlayerId()));
+        }
+    }
+
+    @Test
+    public void testSettledRoundIsStoredOnlyWhenAsked() {
+        gameService.startGame();
+        List<Player> players = gameService.getPlayers();
+        int[] storedPoints = new int[players.size()];
+        for (int seat = 0; seat < storedPoints.length; seat++) {
+            storedPoints[seat] = playerService.retrievePointForPlayer(players.get(seat).getPlayerId());
+        }
+
+        Settlement settlement = gameService.settleBets(10);
+        for (int seat = 0; seat < storedPoints.length; seat++) {
+            Player player = players.get(seat);
+            assertEquals(storedPoints[seat] + settlement.getDelta(seat), player.getPoints());
+            assertEquals(storedPoints[seat], playerService.retrievePointForPlayer(player.getPlayerId()));
+        }
+
+        gameService.storeSettlement(settlement);
+        for (Player player : players) {
+            assertEquals(player.getPoints(), playerService.retrievePointForPlayer(player.getPlayerId()));
+        }
+    }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testUpdatePoints() {
+        player1.setPoints(42);
+        gameService.updatePoints(player1);
+        assertEquals(42, playerService.retrievePointForPlayer(player1.getPlayerId()));
+
+        player2.setPoints(7);
+        player3.setPoints(300);
+        gameService.updatePoints(Arrays.asList(player1, player2, player3));
+        assertEquals(42, playerService.retrievePointForPlayer(player1.getPlayerId()));
+        assertEquals(7, playerService.retrievePointForPlayer(player2.getPlayerId()));
+        assertEquals(300, playerService.retrievePointForPlayer(player3.getPlayerId()));
+    }
+}
@@ -0,0 +1,273 @@
+package com.topcard.service;
+
+import com.topcard.domain.Player;
+import com.topcard.service.player.IndexedPlayerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedPlayerServiceTest {
+
+    private Path dataFile;
+    private IndexedPlayerService testPlayerService;
+
+    @Before
+    public void setUp() throws IOException {
+        dataFile = Files.createTempFile("players", ".csv");
+        testPlayerService = new IndexedPlayerService(dataFile);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(journalFile());
+        Files.deleteIfExists(rotatedJournalFile());
+        Files.deleteIfExists(dataFile.resolveSibling(dataFile.getFileName() + ".seq"));
+    }
+
+    @Test
+    public void testAddAndFindPlayer() {
+        Player player = new Player("Mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        assertTrue(testPlayerService.addPlayer(player));
+        assertFalse(testPlayerService.addPlayer(new Player("mickey", "x", "M", "M", LocalDate.of(1928, 11, 18))));
+
+        Player byName = testPlayerService.getPlayerByUsername("mickey");
+        Player byId = testPlayerService.getPlayerById(player.getPlayerId());
+        assertEquals(player, byName);
+        assertEquals(player, byId);
+        assertNull(testPlayerService.getPlayerByUsername("panda"));
+        assertNull(testPlayerService.getPlayerById(9999));
+    }
+
+    @Test
+    public void testChangesArePersisted() {
+        Player goofy = new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25));
+        Player daisy = new Player("daisy", "duck123", "Daisy", "Duck", LocalDate.of(1940, 1, 1));
+        testPlayerService.addPlayers(List.of(goofy, daisy));
+        testPlayerService.changePoints(goofy.getPlayerId(), 150);
+        testPlayerService.makePlayerAdmin(daisy.getPlayerId());
+        testPlayerService.updateProfile(daisy.getPlayerId(), "NewDaisy", "Duck", LocalDate.of(1940, 1, 2));
+
+        // A new service over the same file must see every change.
+        IndexedPlayerService reloaded = new IndexedPlayerService(dataFile);
+        assertEquals(150, reloaded.retrievePointForPlayer(goofy.getPlayerId()));
+        assertTrue(reloaded.isPlayerAdmin(daisy.getPlayerId()));
+        assertEquals("NewDaisy", reloaded.getPlayerById(daisy.getPlayerId()).getFirstName());
+        assertTrue(reloaded.verifyPassword("duck123", reloaded.getPlayerById(daisy.getPlayerId()).getPassword()));
+
+        reloaded.removePlayer(goofy.getPlayerId());
+        assertEquals(1, new IndexedPlayerService(dataFile).getAllPlayers().size());
+    }
+
+    @Test
+    public void testReturnedPlayersAreCopies() {
+        Player pluto = new Player("pluto", "dog123", "Pluto", "Dog", LocalDate.of(1930, 9, 1));
+        testPlayerService.addPlayer(pluto);
+
+        Player fetched = testPlayerService.getPlayerById(pluto.getPlayerId());
+        fetched.setPoints(1);
+        assertEquals(100, testPlayerService.retrievePointForPlayer(pluto.getPlayerId()));
+    }
+
+    @Test
+    public void testChangesAreJournaledNotRewritten() throws IOException {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayer(mickey);
+        testPlayerService.changePoints(mickey.getPlayerId(), 120);
+
+        assertTrue(Files.readAllLines(dataFile).isEmpty());  // the snapshot is untouched
+        assertEquals(2, Files.readAllLines(journalFile()).size());
+    }
+
+    @Test
+    public void testRecoveryReplaysJournalAfterCrash() throws IOException {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        Player minnie = new Player("minnie", "mouse123", "Minnie", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayers(List.of(mickey, minnie));
+        testPlayerService.changePoints(mickey.getPlayerId(), 70);
+        testPlayerService.removePlayer(minnie.getPlayerId());
+
+        // The first service is abandoned without compaction, as if the process had died.
+        IndexedPlayerService recovered = new IndexedPlayerService(dataFile);
+        assertEquals(1, recovered.getAllPlayers().size());
+        assertEquals(70, recovered.retrievePointForPlayer(mickey.getPlayerId()));
+
+        // Start-up folds the journal into the snapshot.
+        assertFalse(Files.exists(journalFile()));
+        assertEquals(1, Files.readAllLines(dataFile).size());
+    }
+
+    @Test
+    public void testRecoveryIgnoresTornRecord() throws IOException {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayer(mickey);
+        testPlayerService.changePoints(mickey.getPlayerId(), 80);
+        // A crash in the middle of a write leaves a record without checksum and line break.
+        Files.writeString(journalFile(), "U,2,donald,$2a$10$abc,Don", StandardOpenOption.APPEND);
+
+        IndexedPlayerService recovered = new IndexedPlayerService(dataFile);
+        assertEquals(1, recovered.getAllPlayers().size());
+        assertEquals(80, recovered.retrievePointForPlayer(mickey.getPlayerId()));
+        assertNull(recovered.getPlayerById(2));
+    }
+
+    @Test
+    public void testRecoveryAfterCrashDuringCompaction() throws IOException {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayer(mickey);
+        testPlayerService.changePoints(mickey.getPlayerId(), 90);
+        // Crash right after the journal was rotated, before the snapshot was written.
+        Files.move(journalFile(), rotatedJournalFile());
+
+        IndexedPlayerService recovered = new IndexedPlayerService(dataFile);
+        assertEquals(90, recovered.retrievePointForPlayer(mickey.getPlayerId()));
+        assertFalse(Files.exists(rotatedJournalFile()));
+    }
+
+    @Test
+    public void testCompactionFoldsJournalIntoSnapshot() throws IOException {
+        IndexedPlayerService service = new IndexedPlayerService(dataFile, Integer.MAX_VALUE);
+        service.addPlayer(new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25)));
+        service.addPlayer(new Player("daisy", "duck123", "Daisy", "Duck", LocalDate.of(1940, 1, 1)));
+        service.compact();
+
+        assertEquals(2, Files.readAllLines(dataFile).size());
+        assertFalse(Files.exists(journalFile()));
+        assertFalse(Files.exists(rotatedJournalFile()));
+
+        service.changePoints(1, 10);  // journaling continues after compaction
+        assertEquals(10, new IndexedPlayerService(dataFile).retrievePointForPlayer(1));
+    }
+
+    @Test
+    public void testApplyPointDeltasIsOneBatch() throws IOException {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        Player minnie = new Player("minnie", "mouse123", "Minnie", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayers(List.of(mickey, minnie));
+        long journalSize = Files.size(journalFile());
+
+        testPlayerService.applyPointDeltas(Map.of(mickey.getPlayerId(), 15, minnie.getPlayerId(), -15, 9999, 5));
+        assertEquals(115, testPlayerService.retrievePointForPlayer(mickey.getPlayerId()));
+        assertEquals(85, testPlayerService.retrievePointForPlayer(minnie.getPlayerId()));
+
+        // Cut the batch in the middle of its last record: none of it may be replayed.
+        byte[] journal = Files.readAllBytes(journalFile());
+        Path tornJournal = dataFile.resolveSibling(dataFile.getFileName() + ".torn");
+        Files.write(tornJournal, Arrays.copyOf(journal, journal.length - 10));
+        Files.move(tornJournal, journalFile(), StandardCopyOption.REPLACE_EXISTING);
+        assertTrue(Files.size(journalFile()) > journalSize);
+
+        IndexedPlayerService recovered = new IndexedPlayerService(dataFile);
+        assertEquals(100, recovered.retrievePointForPlayer(mickey.getPlayerId()));
+        assertEquals(100, recovered.retrievePointForPlayer(minnie.getPlayerId()));
+    }
+
+    @Test
+    public void testIdsAreNotReusedAfterRemove() {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        Player minnie = new Player("minnie", "mouse123", "Minnie", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayers(List.of(mickey, minnie));
+        testPlayerService.removePlayer(minnie.getPlayerId());
+
+        Player goofy = new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25));
+        new IndexedPlayerService(dataFile).addPlayer(goofy);
+        // The restarted service resumes after the block of IDs reserved by the first one.
+        assertTrue(goofy.getPlayerId() > minnie.getPlayerId());
+        assertTrue(Files.exists(dataFile.resolveSibling(dataFile.getFileName() + ".seq")));
+    }
+
+    @Test
+    public void testServicesOverOneFileDoNotShareIds() {
+        IndexedPlayerService other = new IndexedPlayerService(dataFile);
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        Player goofy = new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25));
+        testPlayerService.addPlayer(mickey);
+        other.addPlayer(goofy);
+        // Each service reserves its own block of IDs in the sequence file.
+        assertNotEquals(mickey.getPlayerId(), goofy.getPlayerId());
+    }
+
+    @Test
+    public void testLookupsAreNotBlockedByImport() {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayer(mickey);
+        AtomicReference<Player> lookedUp = new AtomicReference<>();
+
+        // The progress callback runs on the importing thread, in the middle of the import.
+        testPlayerService.importPlayers(List.of(
+                new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25)),
+                new Player("Mickey", "x", "M", "M", LocalDate.of(1928, 11, 18))).iterator(), report -> {
+            Thread reader = new Thread(() -> lookedUp.set(testPlayerService.getPlayerByUsername("mickey")));
+            reader.start();
+            try {
+                reader.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertEquals(mickey.getPlayerId(), lookedUp.get().getPlayerId());
+        assertEquals(2, testPlayerService.getAllPlayers().size());
+    }
+
+    @Test
+    public void testLookupsAreNotBlockedByPasswordEncryption() {
+        Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+        testPlayerService.addPlayer(mickey);
+        List<Player> lookedUp = new CopyOnWriteArrayList<>();
+        // A plain password is read right before it is encrypted; look mickey up from another thread then.
+        Player goofy = new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25)) {
+            @Override
+            public String getPassword() {
+                String password = super.getPassword();
+                if (!password.startsWith("$2a$")) {
+                    lookedUp.add(lookUpOnOtherThread("mickey"));
+                }
+                return password;
+            }
+        };
+        assertTrue(testPlayerService.addPlayer(goofy));
+        goofy.changePassword("goofy456");
+        testPlayerService.updateProfile(goofy);
+
+        assertEquals(2, lookedUp.size());
+        for (Player player : lookedUp) {
+            assertNotNull(player, "lookup blocked while a password was encrypted");
+            assertEquals(mickey.getPlayerId(), player.getPlayerId());
+        }
+        assertTrue(testPlayerService.verifyPassword("goofy456", testPlayerService.getPlayerByUsername("goofy").getPassword()));
+    }
+
+    private Path journalFile() {
+        return dataFile.resolveSibling(dataFile.getFileName() + ".journal");
+    }
+
+    private Path rotatedJournalFile() {
+        return dataFile.resolveSibling(dataFile.getFileName() + ".journal.1");
+    }
+
+    private Player lookUpOnOtherThread(String username) {
+        AtomicReference<Player> lookedUp = new AtomicReference<>();
+        Thread reader = new Thread(() -> lookedUp.set(testPlayerService.getPlayerByUsername(username)));
+        reader.start();
+        try {
+            reader.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return lookedUp.get();
+    }
+}
@@ -0,0 +1,149 @@
+package com.topcard.service;
+
+import com.topcard.domain.Player;
+import com.topcard.service.player.MappedPlayerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedPlayerServiceTest {
+
+    private static final String HASH = "$2a$10$Og9XgjW8hH7a46pDCeQVh.MqxBx6qjT5gNpIhwij6YoLxYdDhjy5u";
+
+    private Path csvFile;
+    private Path binaryFile;
+
+    @Before
+    public void setUp() throws IOException {
+        csvFile = Files.createTempFile("players", ".csv");
+        binaryFile = csvFile.resolveSibling(csvFile.getFileName() + ".bin");
+        Files.write(csvFile, List.of(
+                "1," + "mickey," + HASH + ",Mickey,Mouse,1928-11-18,100,true",
+                "2," + "minnie," + HASH + ",Minnie,Mouse,1928-11-18,90,false",
+                "4," + "goofy," + HASH + ",Goofy,Goof,1932-05-25,80,false"));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Test
+    public void testConvertsCsvOnFirstUse() {
+        MappedPlayerService service = new MappedPlayerService(binaryFile, csvFile);
+        assertTrue(Files.exists(binaryFile));
+        assertEquals(3, service.getAllPlayers().size());
+        assertFalse(Files.exists(binaryFile.resolveSibling(binaryFile.getFileName() + ".tmp")));
+
+        Player goofy = service.getPlayerById(4);
+        assertEquals("goofy", goofy.getUsername());
+        assertEquals(HASH, goofy.getPassword());
+        assertEquals(LocalDate.of(1932, 5, 25), goofy.getDateOfBirth());
+        assertEquals(80, goofy.getPoints());
+        assertNull(service.getPlayerById(3));
+        assertTrue(service.isPlayerAdmin(1));
+        assertEquals(2, service.getPlayerByUsername("minnie").getPlayerId());
+    }
+
+    @Test
+    public void testPositionedWritesArePersisted() {
+        MappedPlayerService service = new MappedPlayerService(binaryFile, csvFile);
+        service.changePoints(2, 55);
+        service.applyPointDeltas(Map.of(1, 10, 4, -10));
+        service.makePlayerAdmin(4);
+        service.removePlayer(1);
+
+        MappedPlayerService reopened = new MappedPlayerService(binaryFile, null);
+        assertEquals(55, reopened.retrievePointForPlayer(2));
+        assertEquals(70, reopened.retrievePointForPlayer(4));
+        assertTrue(reopened.isPlayerAdmin(4));
+        assertNull(reopened.getPlayerById(1));
+        assertNull(reopened.getPlayerByUsername("mickey"));
+    }
+
+    @Test
+    public void testAddPlayersBeyondInitialCapacity() throws IOException {
+        MappedPlayerService service = new MappedPlayerService(binaryFile, csvFile);
+        Player daisy = new Player("Daisy", "duck123", "Daisy", "Duck", LocalDate.of(1940, 1, 1));
+        assertTrue(service.addPlayer(daisy));
+        assertEquals(5, daisy.getPlayerId());
+        assertFalse(service.addPlayer(new Player("daisy", "x", "D", "D", LocalDate.of(1940, 1, 1))));
+        assertTrue(service.verifyPassword("duck123", service.getPlayerByUsername("daisy").getPassword()));
+
+        // Record slots are derived from the ID, so a large ID grows the mapped file.
+        Files.write(csvFile, List.of("5000,far," + HASH + ",Far,Away,1990-01-01,100,false"));
+        assertEquals(1, service.importCsv(csvFile));
+        assertEquals(5000, new MappedPlayerService(binaryFile, null).getPlayerByUsername("far").getPlayerId());
+        assertEquals(5, service.getAllPlayers().size());
+    }
+
+    @Test
+    public void testIdsAreNotReusedAfterRestart() {
+        MappedPlayerService service = new MappedPlayerService(binaryFile, csvFile);
+        Player daisy = new Player("daisy", "duck123", "Daisy", "Duck", LocalDate.of(1940, 1, 1));
+        assertTrue(service.addPlayer(daisy));
+        assertEquals(5, daisy.getPlayerId());
+        service.removePlayer(5);
+
+        MappedPlayerService reopened = new MappedPlayerService(binaryFile, null);
+        Player pluto = new Player("pluto", "dog123", "Pluto", "Dog", LocalDate.of(1930, 8, 18));
+        assertTrue(reopened.addPlayer(pluto));
+        assertEquals(6, pluto.getPlayerId());
+        assertNull(reopened.getPlayerById(5));
+    }
+
+    @Test
+    public void testLookupsAreNotBlockedByPasswordEncryption() {
+        MappedPlayerService service = new MappedPlayerService(binaryFile, csvFile);
+        List<Player> lookedUp = new CopyOnWriteArrayList<>();
+        // A plain password is read right before it is encrypted; look mickey up from another thread then.
+        Player daisy = new Player("daisy", "duck123", "Daisy", "Duck", LocalDate.of(1940, 1, 1)) {
+            @Override
+            public String getPassword() {
+                String password = super.getPassword();
+                if (!password.startsWith("$2a$")) {
+                    lookedUp.add(lookUpOnOtherThread(service, "mickey"));
+                }
+                return password;
+            }
+        };
+        assertTrue(service.addPlayer(daisy));
+        daisy.changePassword("duck456");
+        service.updateProfile(daisy);
+        service.importPlayers(List.of(new Player("pluto", "dog123", "Pluto", "Dog", LocalDate.of(1930, 8, 18)))
+                .iterator(), report -> lookedUp.add(lookUpOnOtherThread(service, "mickey")));
+
+        assertEquals(3, lookedUp.size());
+        for (Player player : lookedUp) {
+            assertNotNull(player, "lookup blocked while a password was encrypted");
+            assertEquals(1, player.getPlayerId());
+        }
+        assertTrue(service.verifyPassword("duck456", service.getPlayerByUsername("daisy").getPassword()));
+        assertEquals(6, service.getPlayerByUsername("pluto").getPlayerId());
+        assertEquals(6, new MappedPlayerService(binaryFile, null).getPlayerByUsername("pluto").getPlayerId());
+    }
+
+    private static Player lookUpOnOtherThread(MappedPlayerService service, String username) {
+        AtomicReference<Player> lookedUp = new AtomicReference<>();
+        Thread reader = new Thread(() -> lookedUp.set(service.getPlayerByUsername(username)));
+        reader.start();
+        try {
+            reader.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return lookedUp.get();
+    }
+}
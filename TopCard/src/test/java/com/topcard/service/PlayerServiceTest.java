@@ -2,13 +2,20 @@ package com.topcard.service;
 
 import com.topcard.domain.Player;
 import com.topcard.domain.PlayerTest;
+import com.topcard.service.player.PlayerImportReport;
 import com.topcard.service.player.PlayerService;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,6 +132,21 @@ public class PlayerServiceTest {
         assertEquals(150, updatedPlayer.getPoints());
     }
 
+    @Test
+    public void testApplyPointDeltas() {
+        createSamplePlayerData();
+        Player mickey = testPlayerService.getPlayerByUsername("mickey");
+        Player minnie = testPlayerService.getPlayerByUsername("minnie");
+        Player donald = testPlayerService.getPlayerByUsername("donald");
+
+        testPlayerService.applyPointDeltas(Map.of(mickey.getPlayerId(), 20, minnie.getPlayerId(), -20, 9999, 5));
+
+        assertEquals(120, testPlayerService.retrievePointForPlayer(mickey.getPlayerId()));
+        assertEquals(80, testPlayerService.retrievePointForPlayer(minnie.getPlayerId()));
+        assertEquals(100, testPlayerService.retrievePointForPlayer(donald.getPlayerId()));
+        assertEquals(5, testPlayerService.getAllPlayers().size());
+    }
+
     @Test
     public void testIsPlayerAdmin() {
         Player player = new Player("Daisy", "duck123", "Daisy", "Duck", LocalDate.of(1940, 1, 1));
@@ -175,6 +197,48 @@ public class PlayerServiceTest {
         }
     }
 
+    @Test
+    public void testImportPlayers() {
+        testPlayerService.addPlayer(new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18)));
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            players.add(new Player("User" + i, "pass" + i, "First" + i, "Last" + i, LocalDate.of(1990, 1, 1)));
+        }
+        players.add(new Player("Mickey", "x", "Mickey", "Mouse", LocalDate.of(1928, 11, 18)));
+        players.add(new Player("user7", "x", "User", "Seven", LocalDate.of(1990, 1, 1)));
+
+        List<PlayerImportReport> reports = new ArrayList<>();
+        PlayerImportReport report = testPlayerService.importPlayers(players.iterator(), reports::add);
+        assertEquals(300, report.getImported());
+        assertEquals(2, report.getSkipped());
+        assertTrue(reports.size() > 1);
+        assertEquals(301, testPlayerService.getAllPlayers().size());
+
+        Player user7 = testPlayerService.getPlayerByUsername("user7");
+        assertEquals("First7", user7.getFirstName());
+        assertTrue(testPlayerService.verifyPassword("pass7", user7.getPassword()));
+        assertEquals(players.get(299).getPlayerId(), testPlayerService.getPlayerByUsername("user299").getPlayerId());
+    }
+
+    @Test
+    public void testUpdateKeepsPasswordUnlessChanged() {
+        Player player = new Player("goofy", "goofy123", "Goofy", "Goof", LocalDate.of(1932, 5, 25));
+        testPlayerService.addPlayer(player);
+        String encrypted = testPlayerService.getPlayerById(player.getPlayerId()).getPassword();
+
+        // A profile update carrying the stored hash must not treat it as a new password
+        Player update = testPlayerService.getPlayerById(player.getPlayerId());
+        update.setFirstName("NewGoofy");
+        testPlayerService.updateProfile(update);
+        assertEquals(encrypted, testPlayerService.getPlayerById(player.getPlayerId()).getPassword());
+
+        testPlayerService.changePassword(player.getPlayerId(), "newgoofy123");
+        Player changed = testPlayerService.getPlayerById(player.getPlayerId());
+        assertEquals("NewGoofy", changed.getFirstName());
+        assertTrue(testPlayerService.verifyPassword("newgoofy123", changed.getPassword()));
+        assertFalse(testPlayerService.verifyPassword("goofy123", changed.getPassword()));
+    }
+
     @Test
     public void testEncryption() {
         createSamplePlayerData();
@@ -183,4 +247,109 @@ public class PlayerServiceTest {
         assertNotEquals("mouse123", retrievedPlayer.getPassword());
     }
 
+    @Test
+    public void testRecoveryAfterCrashDuringRewrite() throws IOException {
+        Path dataFile = Files.createTempFile("players", ".csv");
+        Path tempFile = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+        try {
+            PlayerService service = new PlayerService(dataFile);
+            Player mickey = new Player("mickey", "mouse123", "Mickey", "Mouse", LocalDate.of(1928, 11, 18));
+            Player minnie = new Player("minnie", "mouse123", "Minnie", "Mouse", LocalDate.of(1928, 11, 18));
+            Player donald = new Player("donald", "duck123", "Donald", "Duck", LocalDate.of(1934, 6, 9));
+            service.addPlayers(List.of(mickey, minnie, donald));
+            List<String> before = Files.readAllLines(dataFile);
+            // A crash in the middle of a rewrite leaves a partial temporary file next to players.csv
+            Files.writeString(tempFile, before.get(0).substring(0, 10));
+
+            PlayerService recovered = new PlayerService(dataFile);
+            assertEquals(before, Files.readAllLines(dataFile));
+            assertEquals(3, recovered.getAllPlayers().size());
+
+            recovered.changePoints(mickey.getPlayerId(), 70);
+            recovered.updateProfile(minnie.getPlayerId(), "Minerva", "Mouse", LocalDate.of(1928, 11, 18));
+            recovered.removePlayer(donald.getPlayerId());
+            assertFalse(Files.exists(tempFile));
+            assertEquals(70, recovered.retrievePointForPlayer(mickey.getPlayerId()));
+            assertEquals("Minerva", recovered.getPlayerById(minnie.getPlayerId()).getFirstName());
+            assertNull(recovered.getPlayerById(donald.getPlayerId()));
+            assertEquals(2, recovered.getAllPlayers().size());
+        } finally {
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    public void testFailedRewriteKeepsOldFile() throws Exception {
+        Path dataFile = Files.createTempFile("players", ".csv");
+        Path tempFile = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+        try {
+            List<String> lines = List.of("1,mickey,x,Mickey,Mouse,1928-11-18,100,false",
+                    "2,minnie,x,Minnie,Mouse,1928-11-18,100,false");
+            Files.write(dataFile, lines);
+            Method replaceLines = Class.forName("com.topcard.service.player.PlayerCsv")
+                    .getDeclaredMethod("replaceLines", Path.class, List.class);
+            replaceLines.setAccessible(true);
+            // The lone surrogate cannot be encoded, so the write fails after the first row
+            InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                    () -> replaceLines.invoke(null, dataFile, List.of(lines.get(0), "2,minnie\uD800")));
+            assertInstanceOf(IOException.class, e.getCause());
+            assertEquals(lines, Files.readAllLines(dataFile));
+            assertFalse(Files.exists(tempFile));
+
+            replaceLines.invoke(null, dataFile, List.of(lines.get(1)));
+            assertEquals(List.of(lines.get(1)), Files.readAllLines(dataFile));
+            assertFalse(Files.exists(tempFile));
+        } finally {
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    public void testMalformedIdIsRejected() throws IOException {
+        Path dataFile = Files.createTempFile("players", ".csv");
+        try {
+            PlayerService service = new PlayerService(dataFile);
+            Files.write(dataFile, List.of("4294967297,mickey,x,Mickey,Mouse,1928-11-18,100,false"));
+            // 4294967297 wraps to 1 in 32 bits, so it must not be read as player 1
+            assertThrows(NumberFormatException.class, () -> service.getPlayerById(1));
+            Files.write(dataFile, List.of("+7,mickey,x,Mickey,Mouse,1928-11-18,100,false"));
+            assertEquals("mickey", service.getPlayerById(7).getUsername());
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    @Test
+    public void testLookupInFileLargerThanRetainedBuffer() throws IOException {
+        int bufferSize = 64 * 1024; // PlayerCsvScanner.BUFFER_SIZE
+        Path dataFile = Files.createTempFile("players", ".csv");
+        try {
+            List<String> lines = new ArrayList<>();
+            int splitId = 0;
+            long offset = 0;
+            for (int id = 1; offset < 2 * 1024 * 1024; id++) {
+                String line = id + ",user" + id + ",$2a$10$Og9XgjW8hH7a46pDCeQVh.Mqx,First,Last,1990-01-01,100,false";
+                if (splitId == 0 && offset + line.length() > bufferSize) {
+                    splitId = id; // starts in the first read and ends in the second
+                }
+                lines.add(line);
+                offset += line.length() + System.lineSeparator().length();
+            }
+            int longId = lines.size() + 1;
+            lines.add(longId + ",long,x,First," + "L".repeat(3 * bufferSize) + ",1990-01-01,100,false");
+            Files.write(dataFile, lines);
+            PlayerService service = new PlayerService(dataFile);
+            assertEquals("user" + splitId, service.getPlayerById(splitId).getUsername());
+            assertEquals(splitId, service.getPlayerByUsername("user" + splitId).getPlayerId());
+            assertEquals(7, service.getPlayerByUsername("user7").getPlayerId());
+            assertEquals("user" + (longId - 1), service.getPlayerById(longId - 1).getUsername());
+            assertEquals(3 * bufferSize, service.getPlayerByUsername("long").getLastName().length());
+            assertNull(service.getPlayerById(longId + 1));
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
 }
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.Method;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ServiceFactoryTest {
@@ -93,6 +94,36 @@ public class ServiceFactoryTest {
         }
     }
 
+    @Test
+    public void testPlayerServicesAreShared() {
+        assertSame(ServiceFactory.createService(IPlayerService.class), ServiceFactory.createService(IPlayerService.class));
+        assertSame(ServiceFactory.createService(PlayerService.class), ServiceFactory.createService(PlayerService.class));
+    }
+
+    @Test
+    public void testCardAndGameServicesAreCreatedPerCall() {
+        assertNotSame(ServiceFactory.createService(CardService.class), ServiceFactory.createService(CardService.class));
+        List<Player> players = getPlayers();
+        assertNotSame(ServiceFactory.createService(GameService.class, players),
+                ServiceFactory.createService(GameService.class, players));
+    }
+
+    @Test
+    public void testRegisteredScopes() {
+        ServiceFactory.register(StringBuilder.class, ServiceFactory.Scope.SINGLETON, StringBuilder::new);
+        assertSame(ServiceFactory.createService(StringBuilder.class), ServiceFactory.createService(StringBuilder.class));
+
+        ServiceFactory.register(StringBuilder.class, ServiceFactory.Scope.PROTOTYPE, StringBuilder::new);
+        assertNotSame(ServiceFactory.createService(StringBuilder.class), ServiceFactory.createService(StringBuilder.class));
+    }
+
+    @Test
+    public void testUnregisteredServiceUsesPublicConstructor() {
+        ArrayList<?> first = ServiceFactory.createService(ArrayList.class);
+        assertNotSame(first, ServiceFactory.createService(ArrayList.class));
+        assertTrue(first.isEmpty());
+    }
+
     private List<Player> getPlayers() {
         PlayerTest playerTest = new PlayerTest();
         return playerTest.generatePlayers();
@@ -0,0 +1,15 @@
+package com.topcard.sim;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * The AllSimulationTestsSuite class is a test suite that groups together all
+ * simulation test classes in the application.
+ *
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({MonteCarloSimulatorTest.class, EquityCalculatorTest.class})
+public class AllSimulationTestsSuite {
+    // This class remains empty. Nothing needs to be written.
+}
@@ -0,0 +1,245 @@
+package com.topcard.sim;
+
+import com.topcard.domain.Card;
+import com.topcard.domain.HandEvaluator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EquityCalculatorTest {
+
+    private static final Card KING_OF_HEARTS = Card.of(Card.Suit.HEARTS, Card.Rank.KING);
+    private static final Card SEVEN_OF_SPADES = Card.of(Card.Suit.SPADES, Card.Rank.SEVEN);
+    private static final Card THREE_OF_CLUBS = Card.of(Card.Suit.CLUBS, Card.Rank.THREE);
+
+    @Test
+    public void testHeadsUpMatchesEveryDeal() {
+        Card[] hand = {KING_OF_HEARTS, SEVEN_OF_SPADES, THREE_OF_CLUBS};
+        Equity equity = new EquityCalculator(2, 3).calculate(hand);
+        double[] expected = headsUp(hand, new Card[0]);
+        assertEquals(expected[0], equity.getWin(), 1e-12);
+        assertEquals(expected[1], equity.getTie(), 1e-12);
+        assertEquals(1, equity.getWin() + equity.getTie() + equity.getLoss(), 1e-12);
+    }
+
+    @Test
+    public void testHeadsUpWithDeadCardsMatchesEveryDeal() {
+        Card[] hand = {Card.of(Card.Suit.HEARTS, Card.Rank.QUEEN), Card.of(Card.Suit.HEARTS, Card.Rank.JACK),
+                Card.of(Card.Suit.CLUBS, Card.Rank.TWO)};
+        Card[] dead = {Card.of(Card.Suit.SPADES, Card.Rank.KING), Card.of(Card.Suit.CLUBS, Card.Rank.KING),
+                Card.of(Card.Suit.SPADES, Card.Rank.TEN)};
+        Equity equity = new EquityCalculator(2, 3).calculate(hand, dead, ForkJoinPool.commonPool());
+        double[] expected = headsUp(hand, dead);
+        assertEquals(expected[0], equity.getWin(), 1e-12);
+        assertEquals(expected[1], equity.getTie(), 1e-12);
+    }
+
+    @Test
+    public void testPartialHandMatchesEveryDeal() {
+        Card[] known = {KING_OF_HEARTS, SEVEN_OF_SPADES};
+        Equity equity = new EquityCalculator(2, 3).calculate(known);
+        double win = 0;
+        double tie = 0;
+        List<Card> deck = deckWithout(known);
+        for (Card third : deck) {
+            Card[] hand = {KING_OF_HEARTS, SEVEN_OF_SPADES, third};
+            double[] chances = headsUp(hand, new Card[0]);
+            win += chances[0] / deck.size();
+            tie += chances[1] / deck.size();
+        }
+        assertEquals(win, equity.getWin(), 1e-12);
+        assertEquals(tie, equity.getTie(), 1e-12);
+    }
+
+    @Test
+    public void testFourPlayersPartialHandMatchesEveryDeal() {
+        // Twelve cards left in play, with kings to tie the known one
+        List<Card> live = Arrays.asList(Card.of(Card.Suit.SPADES, Card.Rank.KING),
+                Card.of(Card.Suit.DIAMONDS, Card.Rank.KING), Card.of(Card.Suit.HEARTS, Card.Rank.QUEEN),
+                Card.of(Card.Suit.CLUBS, Card.Rank.JACK), Card.of(Card.Suit.SPADES, Card.Rank.TEN),
+                Card.of(Card.Suit.HEARTS, Card.Rank.NINE), Card.of(Card.Suit.CLUBS, Card.Rank.SEVEN),
+                Card.of(Card.Suit.DIAMONDS, Card.Rank.SEVEN), Card.of(Card.Suit.SPADES, Card.Rank.FIVE),
+                Card.of(Card.Suit.DIAMONDS, Card.Rank.THREE), Card.of(Card.Suit.CLUBS, Card.Rank.TWO),
+                Card.of(Card.Suit.SPADES, Card.Rank.ACE));
+        Card[] known = {KING_OF_HEARTS};
+        List<Card> dead = deckWithout(known);
+        dead.removeAll(live);
+        Card[] deadCards = dead.toArray(new Card[0]);
+        Equity equity = new EquityCalculator(4, 3).calculate(known, deadCards, ForkJoinPool.commonPool());
+        double[] expected = everyDeal(known, deadCards, 3);
+        assertEquals(expected[0], equity.getWin(), 1e-12);
+        assertEquals(expected[1], equity.getTie(), 1e-12);
+    }
+
+    @Test
+    public void testFourPlayersPartialHandIsCountedQuickly() {
+        EquityCalculator calculator = new EquityCalculator(4, 3);
+        calculator.calculate(KING_OF_HEARTS);
+        Equity equity = calculator.calculate(KING_OF_HEARTS);
+        assertTrue(equity.isExact());
+        assertTrue(equity.getElapsedMicros() < 500_000, "took " + equity.getElapsedMicros() + " us");
+        assertEquals(1, equity.getWin() + equity.getTie() + equity.getLoss(), 1e-12);
+        // Two known cards leave fewer completions to the count
+        assertTrue(calculator.calculate(KING_OF_HEARTS, SEVEN_OF_SPADES).getElapsedMicros()
+                < equity.getElapsedMicros());
+    }
+
+    @Test
+    public void testFourPlayersMatchesSampledDeals() {
+        Card[] hand = {KING_OF_HEARTS, SEVEN_OF_SPADES, THREE_OF_CLUBS};
+        Equity equity = new EquityCalculator(4, 3).calculate(hand);
+        assertTrue(equity.isExact());
+        double[] sampled = sampledDeals(hand, 3);
+        assertEquals(sampled[0], equity.getWin(), 0.005);
+        assertEquals(sampled[1], equity.getTie(), 0.002);
+    }
+
+    @Test
+    public void testFullTableIsCountedExactly() {
+        Card[] hand = {Card.of(Card.Suit.HEARTS, Card.Rank.KING), Card.of(Card.Suit.SPADES, Card.Rank.QUEEN),
+                Card.of(Card.Suit.CLUBS, Card.Rank.NINE)};
+        EquityCalculator calculator = new EquityCalculator(8, 3);
+        Runtime runtime = Runtime.getRuntime();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        Equity equity = calculator.calculate(hand);
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        assertTrue(equity.isExact());
+        assertTrue(equity.getElapsedMicros() < 10_000_000, "took " + equity.getElapsedMicros() + " us");
+        assertTrue(usedAfter - usedBefore < 64L * 1024 * 1024, "used " + (usedAfter - usedBefore) + " bytes");
+        double[] sampled = sampledDeals(hand, 7);
+        assertEquals(sampled[0], equity.getWin(), 0.005);
+        assertEquals(sampled[1], equity.getTie(), 0.002);
+    }
+
+    @Test
+    public void testEstimateIsSampledSeparately() {
+        Card[] hand = {Card.of(Card.Suit.HEARTS, Card.Rank.KING), Card.of(Card.Suit.SPADES, Card.Rank.QUEEN),
+                Card.of(Card.Suit.CLUBS, Card.Rank.NINE)};
+        EquityCalculator calculator = new EquityCalculator(8, 3);
+        Equity exact = calculator.calculate(hand);
+        Equity estimate = calculator.estimate(hand);
+
+        assertFalse(estimate.isExact());
+        assertEquals(exact.getWin(), estimate.getWin(), 0.003);
+        assertEquals(exact.getTie(), estimate.getTie(), 0.003);
+        // Estimates are drawn from a fixed seed
+        assertEquals(estimate.getWin(), calculator.estimate(hand).getWin());
+    }
+
+    @Test
+    public void testInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> new EquityCalculator(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> new EquityCalculator(9, 3));
+        EquityCalculator calculator = new EquityCalculator(4, 3);
+        assertThrows(IllegalArgumentException.class, () -> calculator.calculate(KING_OF_HEARTS, KING_OF_HEARTS));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculate(KING_OF_HEARTS, SEVEN_OF_SPADES, THREE_OF_CLUBS, KING_OF_HEARTS));
+    }
+
+    /**
+     * Plays the hand against randomly dealt opponents.
+     */
+    private static double[] sampledDeals(Card[] hand, int opponents) {
+        int strength = HandEvaluator.computeStrength(hand);
+        List<Card> deck = deckWithout(hand);
+        Random random = new Random(20241103L);
+        int deals = 100_000;
+        int wins = 0;
+        int ties = 0;
+        for (int deal = 0; deal < deals; deal++) {
+            Collections.shuffle(deck, random);
+            int best = Integer.MIN_VALUE;
+            for (int opponent = 0; opponent < opponents; opponent++) {
+                best = Math.max(best, HandEvaluator.computeStrength(deck.subList(opponent * 3, opponent * 3 + 3).toArray(new Card[0])));
+            }
+            wins += strength > best ? 1 : 0;
+            ties += strength == best ? 1 : 0;
+        }
+        return new double[]{(double) wins / deals, (double) ties / deals};
+    }
+
+    /**
+     * Plays every completion of the known cards against every deal of the opponent hands, card by card.
+     */
+    private static double[] everyDeal(Card[] known, Card[] dead, int opponents) {
+        List<Card> deck = deckWithout(known);
+        deck.removeAll(Arrays.asList(dead));
+        Card[][] hands = new Card[opponents + 1][3];
+        System.arraycopy(known, 0, hands[0], 0, known.length);
+        long[] outcomes = new long[3];
+        deal(deck, new boolean[deck.size()], hands, 0, known.length, 0, outcomes);
+        return new double[]{(double) outcomes[0] / outcomes[2], (double) outcomes[1] / outcomes[2]};
+    }
+
+    /**
+     * Deals the given card of the given hand, and the cards after it, from the cards not dealt yet.
+     */
+    private static void deal(List<Card> deck, boolean[] dealt, Card[][] hands, int hand, int card, int from,
+                             long[] outcomes) {
+        if (card == 3) {
+            if (hand + 1 < hands.length) {
+                deal(deck, dealt, hands, hand + 1, 0, 0, outcomes);
+                return;
+            }
+            int strength = HandEvaluator.computeStrength(hands[0]);
+            int best = Integer.MIN_VALUE;
+            for (int opponent = 1; opponent < hands.length; opponent++) {
+                best = Math.max(best, HandEvaluator.computeStrength(hands[opponent]));
+            }
+            outcomes[0] += strength > best ? 1 : 0;
+            outcomes[1] += strength == best ? 1 : 0;
+            outcomes[2]++;
+            return;
+        }
+        for (int i = from; i < deck.size(); i++) {
+            if (!dealt[i]) {
+                dealt[i] = true;
+                hands[hand][card] = deck.get(i);
+                deal(deck, dealt, hands, hand, card + 1, i + 1, outcomes);
+                dealt[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Plays the hand against every opponent hand of the deck, card by card.
+     */
+    private static double[] headsUp(Card[] hand, Card[] dead) {
+        List<Card> deck = deckWithout(hand);
+        deck.removeAll(Arrays.asList(dead));
+        int strength = HandEvaluator.computeStrength(hand);
+        long wins = 0;
+        long ties = 0;
+        long deals = 0;
+        for (int a = 0; a < deck.size(); a++) {
+            for (int b = a + 1; b < deck.size(); b++) {
+                for (int c = b + 1; c < deck.size(); c++) {
+                    int other = HandEvaluator.computeStrength(new Card[]{deck.get(a), deck.get(b), deck.get(c)});
+                    wins += strength > other ? 1 : 0;
+                    ties += strength == other ? 1 : 0;
+                    deals++;
+                }
+            }
+        }
+        return new double[]{(double) wins / deals, (double) ties / deals};
+    }
+
+    private static List<Card> deckWithout(Card[] cards) {
+        List<Card> deck = new ArrayList<>();
+        for (Card.Suit suit : Card.Suit.values()) {
+            for (Card.Rank rank : Card.Rank.values()) {
+                deck.add(Card.of(suit, rank));
+            }
+        }
+        deck.removeAll(Arrays.asList(cards));
+        return deck;
+    }
+}
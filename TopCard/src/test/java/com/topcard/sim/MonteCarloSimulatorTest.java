@@ -0,0 +1,91 @@
+package com.topcard.sim;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloSimulatorTest {
+
+    private static final long SEED = 20241103L;
+
+    @Test
+    public void testPointsAreZeroSum() {
+        SimulationResult result = new MonteCarloSimulator(4, 3, 10, SEED).run(20_000);
+        assertEquals(20_000, result.getRounds());
+        assertEquals(4, result.getNumOfPlayers());
+        long total = 0;
+        for (SeatStatistics seat : result.getSeats()) {
+            assertEquals(20_000, seat.getRounds());
+            total += seat.getTotalPoints();
+            long rounds = 0;
+            for (Map.Entry<Integer, Long> entry : seat.getPointDistribution().entrySet()) {
+                assertEquals(0, entry.getKey() % 10);
+                rounds += entry.getValue();
+            }
+            assertEquals(seat.getRounds(), rounds);
+        }
+        assertEquals(0, total);
+    }
+
+    @Test
+    public void testEverySeatIsFair() {
+        SimulationResult result = new MonteCarloSimulator(4, 3, 10, SEED).run(50_000);
+        double totalWinRate = 0;
+        for (SeatStatistics seat : result.getSeats()) {
+            // Each seat wins about a quarter of the rounds, a little more with shared wins
+            assertEquals(0.25, seat.getWinRate(), 0.02);
+            totalWinRate += seat.getWinRate();
+        }
+        assertTrue(totalWinRate >= 1.0);
+        // The main player bets against everyone, but the cards favor no seat
+        assertEquals(0, result.getSeat(0).getExpectedValue(), 0.5);
+        assertEquals(-30, result.getSeat(0).getPointDistribution().firstKey());
+        assertEquals(30, result.getSeat(0).getPointDistribution().lastKey());
+        assertEquals(10, result.getSeat(1).getPointDistribution().lastKey());
+    }
+
+    @Test
+    public void testSameSeedPlaysSameRounds() {
+        SimulationResult first = new MonteCarloSimulator(3, 4, 5, SEED).run(1_000);
+        SimulationResult second = new MonteCarloSimulator(3, 4, 5, SEED).run(1_000);
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(first.getSeat(seat).getWins(), second.getSeat(seat).getWins());
+            assertEquals(first.getSeat(seat).getPointDistribution(), second.getSeat(seat).getPointDistribution());
+        }
+    }
+
+    @Test
+    public void testParallelRunDoesNotDependOnThreads() {
+        long rounds = 3L * MonteCarloSimulator.CHUNK_ROUNDS + 5;
+        MonteCarloSimulator simulator = new MonteCarloSimulator(4, 3, 10, SEED);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            SimulationResult first = simulator.runParallel(rounds, single);
+            SimulationResult second = simulator.runParallel(rounds, four);
+            assertEquals(rounds, first.getRounds());
+            long total = 0;
+            for (int seat = 0; seat < 4; seat++) {
+                assertEquals(rounds, first.getSeat(seat).getRounds());
+                assertEquals(first.getSeat(seat).getWins(), second.getSeat(seat).getWins());
+                assertEquals(first.getSeat(seat).getTotalPoints(), second.getSeat(seat).getTotalPoints());
+                assertEquals(first.getSeat(seat).getPointDistribution(), second.getSeat(seat).getPointDistribution());
+                total += second.getSeat(seat).getTotalPoints();
+            }
+            assertEquals(0, total);
+        } finally {
+            single.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidTable() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(1, 3, 10, SEED));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(18, 3, 10, SEED));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(4, 3, 0, SEED));
+    }
+}